@@ -0,0 +1,37 @@
+/**
+ * 
+ */
+package com.fluidapi.csv.annotations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import com.fluidapi.csv.reader.StringPool;
+
+/**
+ * Says the same value of the column should be the same {@link String} instance
+ * across rows, e.g. for a country or status column repeating a few values over
+ * millions of rows.
+ * <p>Every annotated property has a {@link StringPool} of its own</p>
+ * <p>Only applies to a {@link String} or {@link CharSequence} column</p>
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface CsvIntern {
+	
+	/**
+	 * @return distinct values held at most, values beyond are not pooled,
+	 *         default: 4096, same as {@link StringPool#MAX_ENTRIES}
+	 */
+	int maxEntries() default 4096;
+	
+}
@@ -0,0 +1,29 @@
+package com.fluidapi.csv.bean;
+
+/**
+ * Record of a row that could not be read, handed to an error sink instead of
+ * failing the stream.
+ *
+ * @param record 1-based number of the row, among those the sink was told of
+ *               or read past
+ * @param offset byte offset of the row within the whole input, known only for
+ *               a row read by {@code CsvReader.utf8}, else {@code -1}
+ * @param column 0-based index of the column that failed, or {@code -1} if the
+ *               row failed as a whole, e.g. could not be split or validated
+ * @param text   raw text of the failed column, or of the line if it couldn't
+ *               be split, or {@code null} if not known
+ * @param cause  why the row failed
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public record CsvError(long record, long offset, int column, String text, RuntimeException cause) {
+
+	/**
+	 * @return message of the cause
+	 */
+	public String message() {
+		return cause.getMessage();
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.fluidapi.csv.bean;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+/**
+ * Record to hold the structural characters of a delimited Csv where columns
+ * may optionally be enclosed in quotes, as described by RFC 4180.
+ * <p>
+ * Quoted columns may contain delimiters, and the quote itself if escaped. The
+ * escape is either a doubled quote ({@code ""}), when {@code escape} is the
+ * same as {@code quote}, or a dedicated character like {@code \}.
+ * </p>
+ * Puts restrictions like
+ * <ol>
+ * <li>delimiter, quote and escape cannot be line breaks</li>
+ * <li>delimiter cannot be same as quote or escape</li>
+ * </ol>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public record Dialect(char delimiter, char quote, char escape) {
+
+	public static final char COMMA = ',';
+	public static final char DOUBLE_QUOTE = '"';
+
+	/**
+	 * comma delimited, double-quoted, quotes escaped by doubling them
+	 */
+	public static final Dialect RFC4180 = new Dialect(COMMA, DOUBLE_QUOTE, DOUBLE_QUOTE);
+
+	public Dialect {
+		failIf(isLineBreak(delimiter) || isLineBreak(quote) || isLineBreak(escape), "line break cannot be structural character");
+		failIf(delimiter == quote, "delimiter must be different than quote");
+		failIf(delimiter == escape, "delimiter must be different than escape");
+	}
+
+	/**
+	 * quotes escaped by doubling them
+	 */
+	public Dialect(char delimiter, char quote) {
+		this(delimiter, quote, quote);
+	}
+
+	/**
+	 * double-quoted, quotes escaped by doubling them
+	 */
+	public Dialect(char delimiter) {
+		this(delimiter, DOUBLE_QUOTE);
+	}
+
+	/**
+	 * @return if a quote within a quoted column is escaped by doubling it
+	 */
+	public boolean isDoubledQuote() {
+		return escape == quote;
+	}
+
+	private static boolean isLineBreak(char character) {
+		return character == '\n' || character == '\r';
+	}
+
+}
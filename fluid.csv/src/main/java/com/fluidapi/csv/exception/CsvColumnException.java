@@ -0,0 +1,55 @@
+package com.fluidapi.csv.exception;
+
+/**
+ * A column that could not be mapped, with where and what it was.
+ * <p>
+ * Doesn't fill in its stack trace, as it only ever wraps the cause, which tells
+ * where it failed, hence is cheap to throw on every bad row. The message, too,
+ * is built only when asked for.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class CsvColumnException extends CsvFormatException {
+
+	/**
+	 * basic formation, specialized subclass of {@link RuntimeException}
+	 */
+	private static final long serialVersionUID = 1L;
+
+	private final int column;
+	private final String text;
+
+	/**
+	 * @param column 0-based index of the column
+	 * @param text   raw text of the column
+	 * @param cause  why it could not be mapped
+	 */
+	public CsvColumnException(int column, String text, Throwable cause) {
+		super(null, cause, false, false);
+		this.column = column;
+		this.text = text;
+	}
+
+	/**
+	 * @return 0-based index of the column
+	 */
+	public int getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return raw text of the column
+	 */
+	public String getText() {
+		return text;
+	}
+
+	@Override
+	public String getMessage() {
+		return "could not map column %d '%s': %s".formatted(column, text,
+				getCause() == null ? null : getCause().getMessage());
+	}
+
+}
@@ -27,4 +27,17 @@ public class CsvConstraintViolationException extends CsvException {
 		super(message, cause, enableSuppression, writableStackTrace);
 	}
 
+	/**
+	 * for a bean that failed validation, without a stack trace, as it only ever
+	 * tells what's wrong with the data, hence is cheap to throw on every bad row,
+	 * e.g. handed to a lenient sink
+	 * 
+	 * @param message what's wrong
+	 * @return the exception, to be thrown
+	 * @since 0.3
+	 */
+	public static CsvConstraintViolationException stackless(String message) {
+		return new CsvConstraintViolationException(message, null, false, false);
+	}
+
 }
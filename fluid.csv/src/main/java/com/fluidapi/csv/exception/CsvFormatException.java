@@ -27,4 +27,17 @@ public class CsvFormatException extends CsvException {
 		super(message, cause, enableSuppression, writableStackTrace);
 	}
 
+	/**
+	 * for a row that could not be split, or a column that could not be read,
+	 * without a stack trace, as it only ever tells what's wrong with the data,
+	 * hence is cheap to throw on every bad row, e.g. handed to a lenient sink
+	 * 
+	 * @param message what's wrong
+	 * @return the exception, to be thrown
+	 * @since 0.3
+	 */
+	public static CsvFormatException stackless(String message) {
+		return new CsvFormatException(message, null, false, false);
+	}
+
 }
@@ -2,10 +2,46 @@ package com.fluidapi.csv.provider.bean;
 
 import java.util.function.BiConsumer;
 
+import com.fluidapi.csv.reader.CsvRow;
+
 public interface AutoSetter extends BiConsumer<Object, String[]> {
 	
 	void set(Object instance, Object value);
+	
+	/**
+	 * sets an {@code int} without boxing, where the property is one
+	 * 
+	 * @since 0.3
+	 */
+	default void setInt(Object instance, int value) {
+		set(instance, value);
+	}
+	
+	/**
+	 * sets a {@code long} without boxing, where the property is one
+	 * 
+	 * @since 0.3
+	 */
+	default void setLong(Object instance, long value) {
+		set(instance, value);
+	}
+	
+	/**
+	 * sets a {@code double} without boxing, where the property is one
+	 * 
+	 * @since 0.3
+	 */
+	default void setDouble(Object instance, double value) {
+		set(instance, value);
+	}
+	
 	void autoSet(Object instance, String[] columns);
+	void autoSet(Object instance, CsvRow row);
+	
+	/**
+	 * @return 0-based index of the column it sets from
+	 */
+	int getCsvColumnIndex();
 	
 	@Override
 	default void accept(Object t, String[] u) {
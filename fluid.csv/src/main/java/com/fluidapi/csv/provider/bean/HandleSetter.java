@@ -0,0 +1,253 @@
+package com.fluidapi.csv.provider.bean;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import com.fluidapi.csv.exception.CsvColumnException;
+import com.fluidapi.csv.exception.CsvException;
+import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
+import com.fluidapi.csv.reader.deserializer.DoubleColumnMapper;
+import com.fluidapi.csv.reader.deserializer.IntColumnMapper;
+import com.fluidapi.csv.reader.deserializer.LongColumnMapper;
+import com.fluidapi.csv.reader.provider.deserializer.PickMapped;
+
+/**
+ * Sets a property through a {@link MethodHandle} resolved once, i.e. a
+ * {@link VarHandle} of a field, or a setter, adapted to exact types, instead of
+ * reflecting on every call.
+ * <p>
+ * An {@code int}, {@code long} or {@code double} property, mapped by an
+ * {@link IntColumnMapper}, {@link LongColumnMapper} or
+ * {@link DoubleColumnMapper}, is set straight from the column without boxing.
+ * Anything else is mapped by {@link PickMapped} and set as an object.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class HandleSetter {
+
+	private static final MethodType OBJECT = methodType(void.class, Object.class, Object.class);
+	private static final MethodType INT = methodType(void.class, Object.class, int.class);
+	private static final MethodType LONG = methodType(void.class, Object.class, long.class);
+	private static final MethodType DOUBLE = methodType(void.class, Object.class, double.class);
+
+	private final String name;
+	private final int index;
+	private final CsvBeanDeserializer<?> deserializer;
+
+	/**
+	 * {@code null} if the property could not be accessed
+	 */
+	private final MethodHandle set;
+	private final MethodHandle setInt;
+	private final MethodHandle setLong;
+	private final MethodHandle setDouble;
+
+	/**
+	 * only the one of the property's type, if the mapper is one
+	 */
+	private final IntColumnMapper ints;
+	private final LongColumnMapper longs;
+	private final DoubleColumnMapper doubles;
+
+	/**
+	 * @param name   of the property, to tell on failure
+	 * @param index  0-based index of the column
+	 * @param mapper maps the column
+	 * @param handle sets the property, typed {@code (holder, property)void}, or
+	 *               {@code null} if not accessible
+	 */
+	private HandleSetter(String name, int index, CsvColumnMapper<?> mapper, MethodHandle handle) {
+		this.name = name;
+		this.index = index;
+		this.deserializer = new PickMapped<>(index, mapper);
+
+		Class<?> type = handle == null ? Object.class : handle.type().parameterType(1);
+		this.set = handle == null ? null : handle.asType(OBJECT);
+		this.setInt = type == int.class ? handle.asType(INT) : null;
+		this.setLong = type == long.class ? handle.asType(LONG) : null;
+		this.setDouble = type == double.class ? handle.asType(DOUBLE) : null;
+
+		this.ints = setInt != null && mapper instanceof IntColumnMapper it ? it : null;
+		this.longs = setLong != null && mapper instanceof LongColumnMapper it ? it : null;
+		this.doubles = setDouble != null && mapper instanceof DoubleColumnMapper it ? it : null;
+	}
+
+	/**
+	 * sets a field through its {@link VarHandle}, or its setter
+	 * {@link MethodHandle} where the field's class isn't open to a private lookup
+	 */
+	static HandleSetter of(Field field, int index, CsvColumnMapper<?> mapper) {
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+					.unreflectVarHandle(field)
+					.toMethodHandle(VarHandle.AccessMode.SET);
+		} catch (IllegalAccessException e) {
+			try {
+				handle = field.trySetAccessible() ? MethodHandles.lookup().unreflectSetter(field) : null;
+			} catch (IllegalAccessException inaccessible) {
+				handle = null;
+			}
+		}
+
+		return new HandleSetter(field.getName(), index, mapper, handle);
+	}
+
+	/**
+	 * sets through a setter method
+	 */
+	static HandleSetter of(Method setter, int index, CsvColumnMapper<?> mapper) {
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.privateLookupIn(setter.getDeclaringClass(), MethodHandles.lookup())
+					.unreflect(setter);
+		} catch (IllegalAccessException e) {
+			try {
+				handle = setter.trySetAccessible() ? MethodHandles.lookup().unreflect(setter) : null;
+			} catch (IllegalAccessException inaccessible) {
+				handle = null;
+			}
+		}
+
+		return new HandleSetter(setter.getName(), index, mapper, handle);
+	}
+
+	void set(Object instance, Object value) {
+		if( set == null ) {
+			throw new CsvException(name + " not accessible");
+		}
+
+		try {
+			set.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw failure(value, e);
+		}
+	}
+
+	void setInt(Object instance, int value) {
+		if( setInt == null ) {
+			set(instance, value);
+			return;
+		}
+
+		try {
+			setInt.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw failure(value, e);
+		}
+	}
+
+	void setLong(Object instance, long value) {
+		if( setLong == null ) {
+			set(instance, value);
+			return;
+		}
+
+		try {
+			setLong.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw failure(value, e);
+		}
+	}
+
+	void setDouble(Object instance, double value) {
+		if( setDouble == null ) {
+			set(instance, value);
+			return;
+		}
+
+		try {
+			setDouble.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw failure(value, e);
+		}
+	}
+
+	void autoSet(Object instance, String[] columns) {
+		if( columns == null || index >= columns.length ) {
+			set(instance, deserializer.convert(columns));
+		} else if( ints != null ) {
+			int value;
+			try {
+				value = ints.mapInt(columns[index]);
+			} catch (RuntimeException e) {
+				throw columnFailure(columns[index], e);
+			}
+			setInt(instance, value);
+		} else if( longs != null ) {
+			long value;
+			try {
+				value = longs.mapLong(columns[index]);
+			} catch (RuntimeException e) {
+				throw columnFailure(columns[index], e);
+			}
+			setLong(instance, value);
+		} else if( doubles != null ) {
+			double value;
+			try {
+				value = doubles.mapDouble(columns[index]);
+			} catch (RuntimeException e) {
+				throw columnFailure(columns[index], e);
+			}
+			setDouble(instance, value);
+		} else {
+			set(instance, deserializer.convert(columns));
+		}
+	}
+
+	void autoSet(Object instance, CsvRow row) {
+		if( index >= row.size() ) {
+			set(instance, deserializer.convert(row));
+		} else if( ints != null ) {
+			int value;
+			try {
+				value = ints.mapInt(row, index);
+			} catch (RuntimeException e) {
+				throw columnFailure(row.string(index), e);
+			}
+			setInt(instance, value);
+		} else if( longs != null ) {
+			long value;
+			try {
+				value = longs.mapLong(row, index);
+			} catch (RuntimeException e) {
+				throw columnFailure(row.string(index), e);
+			}
+			setLong(instance, value);
+		} else if( doubles != null ) {
+			double value;
+			try {
+				value = doubles.mapDouble(row, index);
+			} catch (RuntimeException e) {
+				throw columnFailure(row.string(index), e);
+			}
+			setDouble(instance, value);
+		} else {
+			set(instance, deserializer.convert(row));
+		}
+	}
+
+	private CsvColumnException columnFailure(String text, RuntimeException e) {
+		return e instanceof CsvColumnException column ? column : new CsvColumnException(index, text, e);
+	}
+
+	private RuntimeException failure(Object value, Throwable e) {
+		if( e instanceof Error error ) {
+			throw error;
+		}
+
+		return new CsvException(name + " could not be set, or not compatible for type "
+				+ (value == null ? "null" : value.getClass()), e);
+	}
+
+}
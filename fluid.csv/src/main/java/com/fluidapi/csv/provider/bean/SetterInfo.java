@@ -1,14 +1,12 @@
 package com.fluidapi.csv.provider.bean;
 
-import static com.fluidapi.csv.reader.CsvReader.pick;
 import static com.fluidapi.csv.validaton.FailCheck.failIf;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import com.fluidapi.csv.annotations.CsvDeserializer;
 import com.fluidapi.csv.exception.CsvException;
-import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvRow;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
 import com.fluidapi.csv.reader.provider.deserializer.column.ColumnDeserializers;
 
@@ -19,7 +17,7 @@ public class SetterInfo extends MethodInfo implements AutoSetter {
 	final MemberInfo<?> origin;
 	final TypeInfo<?> typeOrigin;
 	
-	CsvBeanDeserializer<?> autoDeserializer;
+	HandleSetter autoSetter;
 
 	public SetterInfo(@NonNull MethodInfo methodInfo) {
 		super(methodInfo.it);
@@ -42,7 +40,16 @@ public class SetterInfo extends MethodInfo implements AutoSetter {
 	// constructor helper, hence right here, not below
 	private void initialize() {
 		CsvColumnMapper<?> autoMapper = hasCustomMapper(origin) ? findCustomMapper(origin) : null;
-		autoDeserializer = pick(origin.getCsvColumnIndex(), ColumnDeserializers.of(typeOrigin, origin, autoMapper));
+		autoSetter = HandleSetter.of(it, origin.getCsvColumnIndex(), ColumnDeserializers.of(typeOrigin, origin, autoMapper));
+	}
+
+	/**
+	 * @return index of the column, as annotated on the field, if this is the
+	 *         setter of a field, or else on the method itself
+	 */
+	@Override
+	public int getCsvColumnIndex() {
+		return origin.getCsvColumnIndex();
 	}
 
 	static boolean hasCustomMapper(@NonNull AnnotatedInfo<?> property) {
@@ -79,17 +86,23 @@ public class SetterInfo extends MethodInfo implements AutoSetter {
 	 */
 	@Override
 	public void set(Object instance, Object value) {
-		try {
-			// call the single argument method
-			it.invoke(instance, value);
-			
-		} catch (IllegalAccessException | InvocationTargetException e) {
-			
-			// setter is not accessible
-			throw new CsvException(getName()
-					+ " not accessible or not compatible for parameter type "
-					+ (value == null ? "null" : value.getClass()), e);
-		}
+		// call the single argument method, through its handle
+		autoSetter.set(instance, value);
+	}
+
+	@Override
+	public void setInt(Object instance, int value) {
+		autoSetter.setInt(instance, value);
+	}
+	
+	@Override
+	public void setLong(Object instance, long value) {
+		autoSetter.setLong(instance, value);
+	}
+	
+	@Override
+	public void setDouble(Object instance, double value) {
+		autoSetter.setDouble(instance, value);
 	}
 	
 
@@ -102,7 +115,12 @@ public class SetterInfo extends MethodInfo implements AutoSetter {
 	 */
 	@Override
 	public void autoSet(Object instance, String[] columns) {
-		set(instance, autoDeserializer.apply(columns));
+		autoSetter.autoSet(instance, columns);
+	}
+
+	@Override
+	public void autoSet(Object instance, CsvRow row) {
+		autoSetter.autoSet(instance, row);
 	}
 
 }
@@ -2,13 +2,11 @@ package com.fluidapi.csv.provider.bean;
 
 import static com.fluidapi.csv.provider.bean.SetterInfo.findCustomMapper;
 import static com.fluidapi.csv.provider.bean.SetterInfo.hasCustomMapper;
-import static com.fluidapi.csv.reader.CsvReader.pick;
 import static com.fluidapi.csv.validaton.FailCheck.failIf;
 
 import java.lang.reflect.Field;
 
-import com.fluidapi.csv.exception.CsvException;
-import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvRow;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
 import com.fluidapi.csv.reader.provider.deserializer.column.ColumnDeserializers;
 
@@ -16,7 +14,7 @@ import lombok.NonNull;
 
 public class WritableFieldInfo extends FieldInfo implements AutoSetter {
 	
-	CsvBeanDeserializer<?> autoDeserializer;
+	HandleSetter autoSetter;
 
 	public WritableFieldInfo(@NonNull FieldInfo info) {
 		this(info.it);
@@ -29,27 +27,38 @@ public class WritableFieldInfo extends FieldInfo implements AutoSetter {
 		failIf(!canWrite(), "not writable");
 		
 		CsvColumnMapper<?> autoMapper = hasCustomMapper(this) ? findCustomMapper(this) : null;
-		autoDeserializer = pick(getCsvColumnIndex(), ColumnDeserializers.of(this, this, autoMapper));
+		autoSetter = HandleSetter.of(it, getCsvColumnIndex(), ColumnDeserializers.of(this, this, autoMapper));
 	}
 	
 	@Override
 	public void set(Object instance, Object value) {
-		try {
-			// assign the value directly
-			it.set(instance, value);
-			
-		} catch (IllegalArgumentException | IllegalAccessException e) {
-			
-			// setter is not accessible
-			throw new CsvException(getName()
-					+ " not accessible or not compatible for type "
-					+ (value == null ? "null" : value.getClass()), e);
-		}
+		// assign the value directly, through its handle
+		autoSetter.set(instance, value);
+	}
+
+	@Override
+	public void setInt(Object instance, int value) {
+		autoSetter.setInt(instance, value);
+	}
+	
+	@Override
+	public void setLong(Object instance, long value) {
+		autoSetter.setLong(instance, value);
+	}
+	
+	@Override
+	public void setDouble(Object instance, double value) {
+		autoSetter.setDouble(instance, value);
 	}
 	
 	@Override
 	public void autoSet(Object instance, String[] columns) {
-		set(instance, autoDeserializer.apply(columns));
+		autoSetter.autoSet(instance, columns);
+	}
+
+	@Override
+	public void autoSet(Object instance, CsvRow row) {
+		autoSetter.autoSet(instance, row);
 	}
 
 }
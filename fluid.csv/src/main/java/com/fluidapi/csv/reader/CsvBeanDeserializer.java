@@ -1,5 +1,7 @@
 package com.fluidapi.csv.reader;
 
+import java.util.BitSet;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -13,6 +15,37 @@ public interface CsvBeanDeserializer<T> extends Function<String[], T> {
 	
 	T convert(String[] columns);
 	
+	/**
+	 * maps a row without copying columns it doesn't use, where supported.
+	 * Copies all columns otherwise.
+	 * 
+	 * @param row columns of a line
+	 * @return the bean
+	 * @since 0.3
+	 */
+	default T convert(CsvRow row) {
+		return convert(row.toArray());
+	}
+	
+	/**
+	 * @return indices of the only columns it reads, or empty if unknown, i.e. it
+	 *         may read any column
+	 * @see CsvLineSplitter#project(CsvBeanDeserializer)
+	 * @since 0.3
+	 */
+	default Optional<BitSet> requiredColumns() {
+		return Optional.empty();
+	}
+	
+	/**
+	 * @return this deserializer as a function of {@link CsvRow}, i.e.
+	 *         {@code rows.map( auto(Bean.class).rows() )}
+	 * @since 0.3
+	 */
+	default Function<CsvRow, T> rows() {
+		return this::convert;
+	}
+	
 	@Override
 	default T apply(String[] t) {
 		return convert(t);
@@ -0,0 +1,100 @@
+package com.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.util.stream.Stream;
+
+import com.fluidapi.csv.annotations.CsvColumn;
+import com.fluidapi.csv.exception.CsvException;
+import com.fluidapi.csv.provider.bean.AnnotatedInfo;
+import com.fluidapi.csv.provider.bean.CsvClassInfo;
+import com.fluidapi.csv.reader.provider.columnpredicate.ColumnEquals;
+import com.fluidapi.csv.reader.provider.columnpredicate.ColumnIn;
+import com.fluidapi.csv.reader.provider.columnpredicate.ColumnPrefix;
+import com.fluidapi.csv.reader.provider.columnpredicate.ColumnRange;
+
+import lombok.NonNull;
+
+/**
+ * Builds a {@link CsvColumnPredicate} on a single column, by its index, or by
+ * the property of a bean it's mapped to with {@link CsvColumn @CsvColumn}
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#column(int)
+ * @see CsvReader#column(Class, String)
+ */
+public class CsvColumnCondition {
+	
+	private final int index;
+	
+	public CsvColumnCondition(int index) {
+		failIf(index < 0, "negative index");
+		this.index = index;
+	}
+	
+	/**
+	 * @param type     bean type
+	 * @param property name of a field, or of a property with a setter, mapped
+	 *                 with {@link CsvColumn @CsvColumn}
+	 */
+	public CsvColumnCondition(@NonNull Class<?> type, @NonNull String property) {
+		this(indexOf(type, property));
+	}
+	
+	/**
+	 * @return index of the column tested
+	 */
+	public int index() {
+		return index;
+	}
+	
+	/**
+	 * @param value exact text of the column
+	 * @return predicate as specified
+	 */
+	public CsvColumnPredicate equalTo(String value) {
+		return new ColumnEquals(index, value);
+	}
+	
+	/**
+	 * @param values texts of the column, any of which matches
+	 * @return predicate as specified
+	 */
+	public CsvColumnPredicate in(String... values) {
+		return new ColumnIn(index, values);
+	}
+	
+	/**
+	 * @param prefix text the column starts with
+	 * @return predicate as specified
+	 */
+	public CsvColumnPredicate startsWith(String prefix) {
+		return new ColumnPrefix(index, prefix);
+	}
+	
+	/**
+	 * @param min least value, inclusive
+	 * @param max greatest value, inclusive
+	 * @return predicate matching a whole number within range
+	 */
+	public CsvColumnPredicate between(long min, long max) {
+		return new ColumnRange(index, min, max);
+	}
+	
+	private static int indexOf(Class<?> type, String property) {
+		failIf(property.isEmpty(), "empty property");
+		
+		CsvClassInfo<?> info = new CsvClassInfo<>(type);
+		String setter = "set" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+		
+		return Stream.<AnnotatedInfo<?>>concat(
+					info.csvFields().filter(field -> field.getName().equals(property)),
+					info.csvSetters().filter(method -> method.getName().equals(setter)))
+				.mapToInt(AnnotatedInfo::getCsvColumnIndex)
+				.findFirst()
+				.orElseThrow(() -> new CsvException("no @CsvColumn property " + property + " in " + type.getName()));
+	}
+	
+}
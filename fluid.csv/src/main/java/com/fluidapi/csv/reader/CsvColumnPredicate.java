@@ -0,0 +1,98 @@
+package com.fluidapi.csv.reader;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests the columns of a line, as produced by {@link CsvLineSplitter}, before
+ * they are mapped to a bean, so that rows filtered out are never bound.
+ * <p>
+ * e.g. {@code lines.map( csv() ).filter( column(3).equalTo("ACTIVE") ).map( auto(Bean.class) )}
+ * </p>
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+@FunctionalInterface
+public interface CsvColumnPredicate extends Predicate<String[]> {
+	
+	boolean matches(String[] columns);
+	
+	/**
+	 * tests a row without copying its columns, where supported. Copies all
+	 * columns otherwise.
+	 * 
+	 * @param row columns of a line
+	 * @return if the row matches
+	 */
+	default boolean matches(CsvRow row) {
+		return matches(row.toArray());
+	}
+	
+	/**
+	 * @return this predicate as a predicate of {@link CsvRow}, i.e.
+	 *         {@code rows.filter( column(3).equalTo("ACTIVE").rows() )}
+	 */
+	default Predicate<CsvRow> rows() {
+		return this::matches;
+	}
+	
+	/**
+	 * @param other tested only if this matches
+	 * @return a predicate matching if both match
+	 */
+	default CsvColumnPredicate and(CsvColumnPredicate other) {
+		return new CsvColumnPredicate() {
+			
+			@Override
+			public boolean matches(String[] columns) {
+				return CsvColumnPredicate.this.matches(columns) && other.matches(columns);
+			}
+			
+			@Override
+			public boolean matches(CsvRow row) {
+				return CsvColumnPredicate.this.matches(row) && other.matches(row);
+			}
+		};
+	}
+	
+	/**
+	 * @param other tested only if this doesn't match
+	 * @return a predicate matching if either matches
+	 */
+	default CsvColumnPredicate or(CsvColumnPredicate other) {
+		return new CsvColumnPredicate() {
+			
+			@Override
+			public boolean matches(String[] columns) {
+				return CsvColumnPredicate.this.matches(columns) || other.matches(columns);
+			}
+			
+			@Override
+			public boolean matches(CsvRow row) {
+				return CsvColumnPredicate.this.matches(row) || other.matches(row);
+			}
+		};
+	}
+	
+	@Override
+	default CsvColumnPredicate negate() {
+		return new CsvColumnPredicate() {
+			
+			@Override
+			public boolean matches(String[] columns) {
+				return !CsvColumnPredicate.this.matches(columns);
+			}
+			
+			@Override
+			public boolean matches(CsvRow row) {
+				return !CsvColumnPredicate.this.matches(row);
+			}
+		};
+	}
+	
+	@Override
+	default boolean test(String[] t) {
+		return matches(t);
+	}
+	
+}
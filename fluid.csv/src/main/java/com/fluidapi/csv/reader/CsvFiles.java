@@ -0,0 +1,132 @@
+package com.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.util.Spliterator.ORDERED;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fluidapi.csv.exception.CsvException;
+import com.fluidapi.csv.reader.provider.source.FileFanOut;
+
+import lombok.NonNull;
+
+/**
+ * Reads many files at once into a single stream, i.e.
+ * {@code files(dir, "*.csv").read(path -> Files.lines(path).map(csv()).map(auto(Bean.class)))}
+ * <p>
+ * Each file is read wholly on a thread of its own, a virtual thread where
+ * available, so that waiting to open and read one file overlaps with others.
+ * Suits many small files, as a file is held in memory till its rows are
+ * consumed.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#files(Path, String)
+ * @see FileFanOut
+ */
+public final class CsvFiles {
+
+	/**
+	 * default number of files read at once
+	 */
+	public static final int CONCURRENCY = 64;
+
+	/**
+	 * reads rows of a file
+	 *
+	 * @param <T> row type
+	 */
+	@FunctionalInterface
+	public interface Source<T> {
+
+		/**
+		 * @param path the file
+		 * @return rows of the file, closed once read
+		 * @throws IOException if the file could not be read
+		 */
+		Stream<T> read(Path path) throws IOException;
+
+	}
+
+	private final List<Path> paths;
+
+	private int concurrency = CONCURRENCY;
+	private boolean ordered;
+	private BiConsumer<Path, Exception> errors = (path, e) -> {
+		throw new CsvException("could not read " + path, e);
+	};
+
+	private CsvFiles(List<Path> paths) {
+		this.paths = paths;
+	}
+
+	/**
+	 * @param paths files to read
+	 * @return files, to be read
+	 */
+	public static CsvFiles of(@NonNull List<Path> paths) {
+		return new CsvFiles(List.copyOf(paths));
+	}
+
+	/**
+	 * @param files files read at once, {@value #CONCURRENCY} by default
+	 * @return this
+	 */
+	public CsvFiles concurrency(int files) {
+		failIf(files < 1, "concurrency must be positive");
+		this.concurrency = files;
+		return this;
+	}
+
+	/**
+	 * hands rows over in the order of the files, rather than as each file is
+	 * read, which is faster
+	 *
+	 * @return this
+	 */
+	public CsvFiles ordered() {
+		this.ordered = true;
+		return this;
+	}
+
+	/**
+	 * handles a file that could not be read, and reads on. By default the stream
+	 * fails with {@link CsvException}.
+	 *
+	 * @param handler told of the file and the failure, on the thread consuming
+	 *                the stream, and may throw to fail the stream anyway
+	 * @return this
+	 */
+	public CsvFiles onError(@NonNull BiConsumer<Path, Exception> handler) {
+		this.errors = handler;
+		return this;
+	}
+
+	/**
+	 * starts reading the files, and streams their rows file by file.
+	 * <p>
+	 * The returned stream holds running threads, hence should be closed if not
+	 * read till the end, preferably using try-with-resources.
+	 * </p>
+	 *
+	 * @param <T>    row type
+	 * @param source reads rows of a file, on any thread, hence must be
+	 *               thread-safe
+	 * @return {@link Stream} of rows, ordered only if {@link #ordered()}
+	 */
+	public <T> Stream<T> read(@NonNull Source<T> source) {
+		FileFanOut<T> files = new FileFanOut<>(paths.iterator(), source, errors, concurrency, ordered);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(files, ordered ? ORDERED : 0), false)
+				.onClose(files::close);
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.fluidapi.csv.reader;
 
+import java.util.BitSet;
 import java.util.function.Function;
 
 /**
@@ -13,6 +14,83 @@ public interface CsvLineSplitter extends Function<String, String[]> {
 	
 	String[] split(String line);
 	
+	/**
+	 * splits the line into a caller supplied array, so that a single array may be
+	 * reused line after line, instead of allocating one per line.
+	 * <p>
+	 * Columns are filled in ltr order from index 0, as many as fit. The returned
+	 * count may exceed the array length, in which case the rest of the columns
+	 * are dropped, and the call may be repeated with a larger array. Whatever is
+	 * past the count in the array is unspecified.
+	 * </p>
+	 * 
+	 * @param line the line to split
+	 * @param into destination of columns
+	 * @return number of columns in the line
+	 * @since 0.3
+	 */
+	default int split(String line, String[] into) {
+		String[] columns = split(line);
+		System.arraycopy(columns, 0, into, 0, Math.min(columns.length, into.length));
+		
+		return columns.length;
+	}
+	
+	/**
+	 * splits the line into a {@link CsvRow}, that only holds where each column is
+	 * in the line, without copying any column
+	 * 
+	 * @param line the line to split
+	 * @return the row
+	 * @since 0.3
+	 */
+	default CsvRow row(String line) {
+		return CsvRow.of(split(line));
+	}
+	
+	/**
+	 * narrows this splitter down to the columns the deserializer reads, i.e.
+	 * {@code delimiter(",").project( auto(Bean.class) )}
+	 * 
+	 * @param deserializer that would read the columns
+	 * @return a splitter extracting only the required columns, or this if the
+	 *         deserializer doesn't tell
+	 * @see #project(BitSet)
+	 * @since 0.3
+	 */
+	default CsvLineSplitter project(CsvBeanDeserializer<?> deserializer) {
+		return deserializer.requiredColumns()
+				.map(this::project)
+				.orElse(this);
+	}
+	
+	/**
+	 * narrows this splitter down to the given columns. Every required column is
+	 * at its usual index, same as {@link #split(String)} would produce, but the
+	 * rest may be {@code null}, and the line may not be read past the last
+	 * required column, hence may not be validated either.
+	 * <p>
+	 * Splitters that can skip columns cheaply override this, others simply
+	 * return themselves.
+	 * </p>
+	 * 
+	 * @param columns indices of the required columns
+	 * @return a splitter extracting only the required columns
+	 * @since 0.3
+	 */
+	default CsvLineSplitter project(BitSet columns) {
+		return this;
+	}
+	
+	/**
+	 * @return this splitter as a function producing {@link CsvRow}, i.e.
+	 *         {@code lines.map( csv().rows() )}
+	 * @since 0.3
+	 */
+	default Function<String, CsvRow> rows() {
+		return this::row;
+	}
+	
 	@Override
 	default String[] apply(String t) {
 		return split(t);
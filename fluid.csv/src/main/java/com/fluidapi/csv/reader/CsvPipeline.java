@@ -0,0 +1,135 @@
+package com.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.util.Spliterator.ORDERED;
+
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fluidapi.csv.reader.provider.pipeline.StagedPipeline;
+
+import lombok.NonNull;
+
+/**
+ * Reads lines to beans in steps running side by side, i.e.
+ * {@code pipeline(lines).split(csv()).decorate(strip()).bind(auto(Bean.class), 4)}
+ * <p>
+ * Lines are read, split, decorated and bound each on a thread of its own, and
+ * binding, usually the costliest step, on as many workers as asked. Rows are
+ * handed from step to step in batches, through bounded lock-free rings, so a
+ * step waits for the next one instead of piling up rows. Beans are still
+ * streamed in the order of the lines.
+ * </p>
+ * <p>
+ * The splitter and decorators run on a single thread each, hence needn't be
+ * thread-safe, while the deserializer must be if bound by more than one
+ * worker.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#pipeline(Stream)
+ * @see StagedPipeline
+ */
+public final class CsvPipeline {
+
+	/**
+	 * default rows per batch
+	 */
+	public static final int BATCH = 256;
+
+	/**
+	 * default batches each ring holds
+	 */
+	public static final int CAPACITY = 16;
+
+	private final Stream<String> lines;
+
+	private CsvLineSplitter splitter;
+	private CsvColumnDecorator decorator;
+	private int batch = BATCH;
+	private int capacity = CAPACITY;
+
+	private CsvPipeline(Stream<String> lines) {
+		this.lines = lines;
+	}
+
+	/**
+	 * @param lines lines to read, closed when the stream of beans is closed
+	 * @return pipeline, to be split and bound
+	 */
+	public static CsvPipeline of(@NonNull Stream<String> lines) {
+		return new CsvPipeline(lines);
+	}
+
+	/**
+	 * @param splitter splits each line, required
+	 * @return this
+	 */
+	public CsvPipeline split(@NonNull CsvLineSplitter splitter) {
+		this.splitter = splitter;
+		return this;
+	}
+
+	/**
+	 * adds a decorator, run after the ones added before, all on a single step
+	 *
+	 * @param decorator decorates the columns of each line
+	 * @return this
+	 */
+	public CsvPipeline decorate(@NonNull CsvColumnDecorator decorator) {
+		CsvColumnDecorator before = this.decorator;
+		this.decorator = before == null ? decorator : columns -> decorator.decorate(before.decorate(columns));
+		return this;
+	}
+
+	/**
+	 * @param rows rows handed from step to step at once, {@value #BATCH} by
+	 *             default
+	 * @return this
+	 */
+	public CsvPipeline batch(int rows) {
+		failIf(rows < 1, "batch must be positive");
+		this.batch = rows;
+		return this;
+	}
+
+	/**
+	 * @param batches batches each ring holds before the step writing to it waits,
+	 *                {@value #CAPACITY} by default
+	 * @return this
+	 */
+	public CsvPipeline capacity(int batches) {
+		failIf(batches < 1, "capacity must be positive");
+		this.capacity = batches;
+		return this;
+	}
+
+	/**
+	 * starts every step, and streams the beans in the order of the lines.
+	 * <p>
+	 * The returned stream holds running threads, hence should be closed if not
+	 * read till the end, preferably using try-with-resources. A failure of any
+	 * step is thrown on reading the stream.
+	 * </p>
+	 *
+	 * @param <T>          bean type
+	 * @param deserializer binds each row, must be thread-safe if more than one
+	 *                     worker
+	 * @param workers      threads binding beans
+	 * @return ordered {@link Stream} of beans
+	 */
+	public <T> Stream<T> bind(@NonNull CsvBeanDeserializer<T> deserializer, int workers) {
+		failIf(splitter == null, "splitter is required");
+
+		StagedPipeline<T> pipeline = new StagedPipeline<>(lines.iterator(), splitter, decorator, deserializer,
+				batch, capacity, workers);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pipeline, ORDERED), false)
+				.onClose(pipeline::close)
+				.onClose(lines::close);
+	}
+
+}
@@ -1,18 +1,43 @@
 package com.fluidapi.csv.reader;
 
+import static com.fluidapi.csv.utility.RegexUtils.literalOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.hibernate.validator.HibernateValidator;
 
 import com.fluidapi.csv.annotations.CsvColumn;
 import com.fluidapi.csv.annotations.CsvDeserializer;
+import com.fluidapi.csv.annotations.CsvIntern;
 import com.fluidapi.csv.annotations.CsvStrip;
 import com.fluidapi.csv.annotations.CsvTrim;
+import com.fluidapi.csv.bean.CsvError;
+import com.fluidapi.csv.bean.Dialect;
 import com.fluidapi.csv.bean.Quote;
 import com.fluidapi.csv.exception.CsvFormatException;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
+import com.fluidapi.csv.reader.provider.columndecorator.InternColumns;
 import com.fluidapi.csv.reader.provider.columndecorator.StripColumns;
 import com.fluidapi.csv.reader.provider.columndecorator.TrimColumns;
 import com.fluidapi.csv.reader.provider.columndecorator.Unescape;
@@ -22,9 +47,20 @@ import com.fluidapi.csv.reader.provider.deserializer.PickString;
 import com.fluidapi.csv.reader.provider.deserializer.column.number.MapBigDecimal;
 import com.fluidapi.csv.reader.provider.deserializer.column.number.MapInteger;
 import com.fluidapi.csv.reader.provider.linesplitter.NoSplit;
+import com.fluidapi.csv.reader.provider.linesplitter.SplitByLiteral;
+import com.fluidapi.csv.reader.provider.linesplitter.SplitDialect;
 import com.fluidapi.csv.reader.provider.linesplitter.SplitByDelimiter;
 import com.fluidapi.csv.reader.provider.linesplitter.SplitFixedLengths;
 import com.fluidapi.csv.reader.provider.linesplitter.SplitQuoted;
+import com.fluidapi.csv.reader.provider.source.AsyncFileInputStream;
+import com.fluidapi.csv.reader.provider.source.FixedRecordFile;
+import com.fluidapi.csv.reader.provider.source.GzipRecordIndex;
+import com.fluidapi.csv.reader.provider.source.MappedChunkSpliterator;
+import com.fluidapi.csv.reader.provider.source.ParallelGzipInputStream;
+import com.fluidapi.csv.reader.provider.source.RecordIndex;
+import com.fluidapi.csv.reader.provider.source.RecordSpliterator;
+import com.fluidapi.csv.reader.provider.source.RecordSurvey;
+import com.fluidapi.csv.reader.provider.source.Utf8RecordSpliterator;
 
 /**
  * Provides shorthand methods to all sorts of functionalities that this utility
@@ -39,22 +75,94 @@ public class CsvReader {
 
 	/**
 	 * splits the string using the given regular expression
+	 * <p>
+	 * if the expression is a plain text, e.g. {@code ,} or {@code \\|} or
+	 * {@code \\t}, the line is scanned for it directly without involving the
+	 * regex engine, with the same result.
+	 * </p>
 	 * 
 	 * @param regex the regular expression to split the string by
 	 * @return {@link CsvLineSplitter} as specified
 	 */
 	public static CsvLineSplitter delimiter(String regex) {
-		return new SplitByDelimiter(regex);
+		String literal = literalOf(regex);
+		return literal != null ? new SplitByLiteral(literal) : new SplitByDelimiter(regex);
 	}
 
 	/**
 	 * splits the string using the given parsed regular expression
+	 * <p>
+	 * if the expression is a plain text, the line is scanned for it directly
+	 * without involving the regex engine, with the same result.
+	 * </p>
 	 * 
 	 * @param pattern compiled regular expression to split the string by
 	 * @return {@link CsvLineSplitter} as specified
 	 */
 	public static CsvLineSplitter delimiter(Pattern pattern) {
-		return new SplitByDelimiter(pattern);
+		String literal = literalOf(pattern);
+		return literal != null ? new SplitByLiteral(literal) : new SplitByDelimiter(pattern);
+	}
+
+	/**
+	 * splits the line as a standard csv described by RFC 4180, i.e. comma
+	 * delimited, where any column may be enclosed in double quotes to contain
+	 * commas, and a double quote within is escaped by doubling it.
+	 * 
+	 * @return {@link CsvLineSplitter} as specified
+	 * @see #csv(char)
+	 * @see #csv(char, char)
+	 * @see #csv(Dialect)
+	 */
+	public static CsvLineSplitter csv() {
+		return csv(Dialect.RFC4180);
+	}
+
+	/**
+	 * splits the line by given delimiter, where any column may be enclosed in
+	 * double quotes to contain the delimiter, and a double quote within is escaped
+	 * by doubling it.
+	 * 
+	 * @param delimiter character that separates columns, usually , or ;
+	 * @return {@link CsvLineSplitter} as specified
+	 * @see #csv()
+	 * @see #csv(char, char)
+	 * @see #csv(Dialect)
+	 */
+	public static CsvLineSplitter csv(char delimiter) {
+		return csv(new Dialect(delimiter));
+	}
+
+	/**
+	 * splits the line by given delimiter, where any column may be enclosed in
+	 * given quotes to contain the delimiter, and a quote within is escaped by
+	 * doubling it.
+	 * 
+	 * @param delimiter character that separates columns, usually , or ;
+	 * @param quote     character that encloses a column, usually "
+	 * @return {@link CsvLineSplitter} as specified
+	 * @see #csv()
+	 * @see #csv(char)
+	 * @see #csv(Dialect)
+	 */
+	public static CsvLineSplitter csv(char delimiter, char quote) {
+		return csv(new Dialect(delimiter, quote));
+	}
+
+	/**
+	 * splits the line by the delimiter of given dialect, where any column may be
+	 * enclosed in quotes to contain the delimiter. the enclosing quotes are
+	 * removed, and escaped quotes are unescaped. A quote that doesn't end would
+	 * result in {@link CsvFormatException}
+	 * 
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return {@link CsvLineSplitter} as specified
+	 * @see #csv()
+	 * @see #csv(char)
+	 * @see #csv(char, char)
+	 */
+	public static CsvLineSplitter csv(Dialect dialect) {
+		return new SplitDialect(dialect);
 	}
 
 	/**
@@ -186,6 +294,24 @@ public class CsvReader {
 		return new TrimColumns();
 	}
 
+	/**
+	 * Replaces the said columns with a canonical instance of each value, so that
+	 * a value repeating across rows, e.g. a country or a status, is held in
+	 * memory only once. Each column has a pool of its own, bounded to the given
+	 * number of distinct values, past which values are left as they are.
+	 * <p>
+	 * To intern a column of a bean, use {@link CsvIntern @CsvIntern} instead,
+	 * which doesn't even copy a pooled value out of a {@link CsvRow}
+	 * </p>
+	 * 
+	 * @param maxEntries distinct values held at most per column
+	 * @param columns    0-based indices of the columns to intern
+	 * @return {@link CsvColumnDecorator} as specified
+	 */
+	public static CsvColumnDecorator intern(int maxEntries, int... columns) {
+		return new InternColumns(maxEntries, columns);
+	}
+
 	/**
 	 * from each column, remove the escape character.
 	 * <p>
@@ -224,6 +350,39 @@ public class CsvReader {
 		return new Unescape(escapeIndicator);
 	}
 	
+	// COLUMN PREDICATE //
+
+	/**
+	 * tests a column on its raw text, to filter rows before they're mapped to a
+	 * bean, i.e.
+	 * {@code lines.map(csv()).filter(column(2).in("IN", "US")).map(auto(Bean.class))}
+	 * <p>
+	 * Matching on text alone, rows filtered out are never converted. Use
+	 * {@link CsvColumnPredicate#rows()} to filter {@link CsvRow}s, without even
+	 * copying the column.
+	 * </p>
+	 * 
+	 * @param index 0-based index of the column
+	 * @return {@link CsvColumnCondition} to build a {@link CsvColumnPredicate}
+	 */
+	public static CsvColumnCondition column(int index) {
+		return new CsvColumnCondition(index);
+	}
+
+	/**
+	 * tests the column a property of a bean is mapped to, by
+	 * {@link CsvColumn @CsvColumn}, on its raw text, i.e.
+	 * {@code filter(column(Bean.class, "age").between(18, 60))}
+	 * 
+	 * @param type     bean type
+	 * @param property name of a field, or of a property with a setter
+	 * @return {@link CsvColumnCondition} to build a {@link CsvColumnPredicate}
+	 * @see #column(int)
+	 */
+	public static CsvColumnCondition column(Class<?> type, String property) {
+		return new CsvColumnCondition(type, property);
+	}
+	
 	// COLUMN TO BEAN MAPPER //
 
 	/**
@@ -364,5 +523,564 @@ public class CsvReader {
 	public static <T> CsvBeanDeserializer<T> auto(Class<T> type) {
 		return new AutoBeanDeserializer<>(type);
 	}
+
+	/**
+	 * maps rows leniently, handing a row that fails to the error sink and going
+	 * on with the next, instead of failing the stream, i.e.
+	 * {@code lines.map(csv()).mapMulti(lenient(auto(Bean.class), errors::add))}
+	 * <p>
+	 * Each {@link CsvError} tells the row number, the column and its raw text, if
+	 * a column failed, and the byte offset, if read by
+	 * {@link #utf8(ByteBuffer, Dialect)}. Use {@link LenientDeserializer#rows()},
+	 * {@link LenientDeserializer#utf8()} or
+	 * {@link LenientDeserializer#lines(CsvLineSplitter)} for other sources. The
+	 * offset is not known for any other source, and is told as {@code -1}.
+	 * </p>
+	 * 
+	 * @param <T>          any bean type
+	 * @param deserializer maps each row
+	 * @param errors       told of each row that fails
+	 * @return {@link LenientDeserializer}, to be used with {@code mapMulti}
+	 */
+	public static <T> LenientDeserializer<T> lenient(CsvBeanDeserializer<T> deserializer, Consumer<CsvError> errors) {
+		return new LenientDeserializer<>(deserializer, errors);
+	}
+	
+	// RECORD SOURCES //
+
+	/**
+	 * reads whole records of a standard csv file in {@code UTF-8}, as described
+	 * by RFC 4180, where a quoted column may even contain line breaks.
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources, same as {@link Files#lines(Path)}
+	 * </p>
+	 * 
+	 * @param path the csv file
+	 * @return {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened
+	 * @see #records(Path, Dialect)
+	 */
+	public static Stream<String[]> records(Path path) throws IOException {
+		return records(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * reads whole records of a delimited csv file in {@code UTF-8}, where a quoted
+	 * column may even contain line breaks. The enclosing quotes are removed, and
+	 * escaped quotes are unescaped.
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources, same as {@link Files#lines(Path)}
+	 * </p>
+	 * 
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened
+	 * @see #records(Reader, Dialect)
+	 */
+	public static Stream<String[]> records(Path path, Dialect dialect) throws IOException {
+		return records(Files.newInputStream(path), dialect);
+	}
+
+	/**
+	 * reads whole records of a delimited csv file in {@code UTF-8}, same as
+	 * {@link #records(Path, Dialect)}, while the next buffers of the file are
+	 * read asynchronously, so that parsing seldom waits for a read, e.g. on a
+	 * network mounted volume.
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources, same as {@link Files#lines(Path)}
+	 * </p>
+	 *
+	 * @param path       the csv file
+	 * @param dialect    delimiter, quote and escape mode to split by
+	 * @param bufferSize bytes per buffer, e.g.
+	 *                   {@value AsyncFileInputStream#BUFFER_SIZE}
+	 * @param buffers    number of buffers, at least 2, e.g.
+	 *                   {@value AsyncFileInputStream#BUFFERS}
+	 * @return {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened
+	 * @see #lines(Path, int, int)
+	 */
+	public static Stream<String[]> records(Path path, Dialect dialect, int bufferSize, int buffers) throws IOException {
+		return records(new AsyncFileInputStream(path, bufferSize, buffers), dialect);
+	}
+
+	/**
+	 * reads lines of a file in {@code UTF-8}, same as {@link Files#lines(Path)},
+	 * while the next buffers of the file are read asynchronously, to be split by
+	 * any {@link CsvLineSplitter}
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 *
+	 * @param path       the file
+	 * @param bufferSize bytes per buffer, e.g.
+	 *                   {@value AsyncFileInputStream#BUFFER_SIZE}
+	 * @param buffers    number of buffers, at least 2, e.g.
+	 *                   {@value AsyncFileInputStream#BUFFERS}
+	 * @return {@link Stream} of lines
+	 * @throws IOException if the file could not be opened
+	 */
+	public static Stream<String> lines(Path path, int bufferSize, int buffers) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new AsyncFileInputStream(path, bufferSize, buffers), UTF_8), RecordSpliterator.BUFFER_SIZE);
+		return reader.lines().onClose(() -> close(reader));
+	}
+
+	/**
+	 * reads whole records of a delimited csv in {@code UTF-8}, where a quoted
+	 * column may even contain line breaks.
+	 * 
+	 * @param input   the csv content, closed when the stream is closed
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return {@link Stream} of records, each record as columns
+	 * @see #records(Reader, Dialect)
+	 */
+	public static Stream<String[]> records(InputStream input, Dialect dialect) {
+		return records(new InputStreamReader(input, UTF_8), dialect);
+	}
+
+	/**
+	 * reads whole records of a delimited csv, where a quoted column may even
+	 * contain line breaks. The enclosing quotes are removed, and escaped quotes
+	 * are unescaped. A quote that doesn't end would result in
+	 * {@link CsvFormatException}
+	 * <p>
+	 * Reads in bulk through a large reusable buffer, so there's no need to wrap
+	 * the reader in a {@link BufferedReader}
+	 * </p>
+	 * 
+	 * @param reader  the csv content, closed when the stream is closed
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return {@link Stream} of records, each record as columns
+	 */
+	public static Stream<String[]> records(Reader reader, Dialect dialect) {
+		return StreamSupport.stream(new RecordSpliterator(reader, dialect), false)
+				.onClose(() -> close(reader));
+	}
+
+	/**
+	 * reads whole records of a gzip compressed standard csv file in
+	 * {@code UTF-8}, as described by RFC 4180
+	 *
+	 * @param path the gzip file, e.g. {@code .csv.gz}
+	 * @return {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened, or is not gzip
+	 * @see #gzip(Path, Dialect)
+	 */
+	public static Stream<String[]> gzip(Path path) throws IOException {
+		return gzip(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * reads whole records of a gzip compressed delimited csv file in
+	 * {@code UTF-8}, where a quoted column may even contain line breaks.
+	 * <p>
+	 * When every gzip member tells its compressed size, as in {@code BGZF}, e.g.
+	 * as written by {@code bgzip}, members are inflated on all cores ahead of the
+	 * parser, a bounded number at a time, and the records still come in order.
+	 * Any other gzip file, of one or many members, is inflated on a thread of its
+	 * own, overlapping with parsing.
+	 * </p>
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources, same as {@link Files#lines(Path)}
+	 * </p>
+	 *
+	 * @param path    the gzip file, e.g. {@code .csv.gz}
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened, or is not gzip
+	 * @see #records(InputStream, Dialect)
+	 */
+	public static Stream<String[]> gzip(Path path, Dialect dialect) throws IOException {
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		return records(ParallelGzipInputStream.open(path, parallelism), dialect);
+	}
+
+	/**
+	 * scans raw {@code UTF-8} bytes of a delimited csv, from the position till the
+	 * limit of the buffer, where a quoted column may even contain line breaks.
+	 * <p>
+	 * Each {@link Utf8Record} only holds the byte bounds of its columns, and a
+	 * column is decoded only when asked for, using a cheaper {@code ASCII} path
+	 * where possible. Columns never asked for are never decoded. Works equally
+	 * with heap, direct or memory-mapped buffers.
+	 * </p>
+	 * <p>
+	 * With {@code --add-modules jdk.incubator.vector}, and quotes escaped by
+	 * doubling them, bytes are classified 64 at a time using {@code SIMD}
+	 * instructions. Setting the system property {@code fluid.csv.simd} to
+	 * {@code false} turns it off. Either way, the records are the same.
+	 * </p>
+	 * 
+	 * @param buffer  raw bytes, must not be changed while records are in use
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @return {@link Stream} of records
+	 */
+	public static Stream<Utf8Record> utf8(ByteBuffer buffer, Dialect dialect) {
+		return StreamSupport.stream(new Utf8RecordSpliterator(buffer, dialect), false);
+	}
+
+	/**
+	 * reads whole records of a standard csv file in {@code UTF-8} in parallel, as
+	 * described by RFC 4180
+	 * 
+	 * @param path the csv file
+	 * @return parallel, ordered {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened or mapped
+	 * @see #parallel(Path, Dialect)
+	 */
+	public static Stream<String[]> parallel(Path path) throws IOException {
+		return parallel(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * reads whole records of a delimited csv file in {@code UTF-8} in parallel,
+	 * where a quoted column may even contain line breaks.
+	 * <p>
+	 * The file is memory-mapped and cut into byte ranges, several per core, each
+	 * parsed on its own thread of the common fork-join pool. A range may even
+	 * start within a quoted column, which is resolved by scanning every range
+	 * speculatively both ways first. The records are still encountered in file
+	 * order, hence {@link Stream#forEachOrdered(java.util.function.Consumer)} or
+	 * collecting to a list retains the order.
+	 * </p>
+	 * <p>
+	 * The file is not held open, only mapped, hence there's no need to close the
+	 * stream. It must not be changed while being read. Bytes are scanned same as
+	 * {@link #utf8(ByteBuffer, Dialect)}, including {@code SIMD} where available.
+	 * </p>
+	 * 
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @return parallel, ordered {@link Stream} of records, each record as columns
+	 * @throws IOException if the file could not be opened or mapped
+	 */
+	public static Stream<String[]> parallel(Path path, Dialect dialect) throws IOException {
+		return parallelRecords(path, dialect, Utf8Record::toArray);
+	}
+
+	/**
+	 * reads whole records of a delimited csv file in {@code UTF-8} in parallel,
+	 * and maps each to a bean on the same thread that parsed it.
+	 * 
+	 * @param <T>          bean type
+	 * @param path         the csv file
+	 * @param dialect      delimiter, quote and escape mode to split by, must all
+	 *                     be {@code ASCII} characters
+	 * @param deserializer maps columns of each record, must be thread-safe
+	 * @return parallel, ordered {@link Stream} of beans
+	 * @throws IOException if the file could not be opened or mapped
+	 * @see #parallel(Path, Dialect)
+	 */
+	public static <T> Stream<T> parallel(Path path, Dialect dialect, CsvBeanDeserializer<T> deserializer) throws IOException {
+		return parallelRecords(path, dialect, record -> deserializer.convert(record.toArray()));
+	}
+
+	private static <T> Stream<T> parallelRecords(Path path, Dialect dialect, Function<Utf8Record, T> mapper) throws IOException {
+		int parallelism = 4 * Runtime.getRuntime().availableProcessors();
+		return StreamSupport.stream(MappedChunkSpliterator.of(path, dialect, parallelism), true)
+				.map(mapper);
+	}
+
+	/**
+	 * opens a file of fixed length records in {@code UTF-8}, to read records by
+	 * their position, without reading through the records before them. The line
+	 * terminator, if any, is told from the bytes right after the first line.
+	 * 
+	 * @param path       the file
+	 * @param lineLength bytes in a record, excluding the line terminator
+	 * @return records by position, each without its terminator, to be closed
+	 *         after use
+	 * @throws IOException if the file could not be opened
+	 * @see #fixedRecords(Path, int, Charset)
+	 */
+	public static CsvRecordAccess<String> fixedRecords(Path path, int lineLength) throws IOException {
+		return fixedRecords(path, lineLength, UTF_8);
+	}
+
+	/**
+	 * opens a file of fixed length records, e.g. a mainframe extract, to read
+	 * records by their position. Record {@code N} is read straight from byte
+	 * {@code N * (lineLength + terminator)}, and ranges are read in bulk, able to
+	 * be read in parallel.
+	 * <p>
+	 * Lengths are in bytes, hence a charset of fixed width per character, e.g.
+	 * {@code ISO-8859-1} or an {@code EBCDIC} code page, is best suited.
+	 * </p>
+	 * 
+	 * @param path       the file
+	 * @param lineLength bytes in a record, excluding the line terminator
+	 * @param charset    to decode records with
+	 * @return records by position, each without its terminator, to be closed
+	 *         after use
+	 * @throws IOException if the file could not be opened
+	 * @see #fixed(int...)
+	 */
+	public static CsvRecordAccess<String> fixedRecords(Path path, int lineLength, Charset charset) throws IOException {
+		return FixedRecordFile.open(path, lineLength, charset);
+	}
+
+	/**
+	 * opens a standard csv file in {@code UTF-8} to read records by their
+	 * position, as described by RFC 4180
+	 *
+	 * @param path the csv file
+	 * @return records by position, each record as columns
+	 * @throws IOException if the file or its index could not be read, or the
+	 *                     index could not be saved
+	 * @see #indexed(Path, Dialect)
+	 */
+	public static CsvRecordAccess<String[]> indexed(Path path) throws IOException {
+		return indexed(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * opens a delimited csv file in {@code UTF-8} to read records by their
+	 * position, e.g. to read a window of a large file again and again, or to
+	 * resume reading from where it was left.
+	 * <p>
+	 * Uses a sparse index of the byte offset of every
+	 * {@value RecordIndex#STRIDE}-th record, saved next to the file with the
+	 * suffix {@value RecordIndex#SUFFIX}. It is built by a single quote-aware
+	 * pass over the file if missing, or stale, i.e. the file was changed since.
+	 * A range then seeks to the nearest indexed record, and reads from there same
+	 * as {@link #records(Path, Dialect)}.
+	 * </p>
+	 * <p>
+	 * Each stream of a range holds the file open, hence should be closed,
+	 * preferably using try-with-resources.
+	 * </p>
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @return records by position, each record as columns
+	 * @throws IOException if the file or its index could not be read, or the
+	 *                     index could not be saved
+	 * @see RecordIndex#build(Path, Dialect, int)
+	 */
+	public static CsvRecordAccess<String[]> indexed(Path path, Dialect dialect) throws IOException {
+		return RecordIndex.of(path, dialect);
+	}
+
+	/**
+	 * opens a gzip compressed standard csv file in {@code UTF-8} to read records
+	 * by their position, as described by RFC 4180
+	 *
+	 * @param path the gzip file, of a single member
+	 * @return records by position, each record as columns
+	 * @throws IOException if the file or its index could not be read, or the
+	 *                     index could not be saved
+	 * @see #indexedGzip(Path, Dialect)
+	 */
+	public static CsvRecordAccess<String[]> indexedGzip(Path path) throws IOException {
+		return indexedGzip(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * opens a gzip compressed delimited csv file in {@code UTF-8} to read records
+	 * by their position, e.g. to resume a failed job near the end of the file,
+	 * without inflating it from the first byte.
+	 * <p>
+	 * Uses checkpoints taken about every {@value GzipRecordIndex#SPAN} inflated
+	 * bytes, each holding where to resume inflating and the dictionary to do so,
+	 * saved next to the file with the suffix {@value GzipRecordIndex#SUFFIX}. It
+	 * is built by inflating the whole file once if missing, or stale, i.e. the
+	 * file was changed since. A range then inflates from the last checkpoint
+	 * before it.
+	 * </p>
+	 * <p>
+	 * Each stream of a range holds the file open, hence should be closed,
+	 * preferably using try-with-resources.
+	 * </p>
+	 *
+	 * @param path    the gzip file, of a single member
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @return records by position, each record as columns
+	 * @throws IOException if the file or its index could not be read, the index
+	 *                     could not be saved, or the file is not a single member
+	 *                     gzip file
+	 * @see GzipRecordIndex#build(Path, Dialect, int)
+	 */
+	public static CsvRecordAccess<String[]> indexedGzip(Path path, Dialect dialect) throws IOException {
+		return GzipRecordIndex.of(path, dialect);
+	}
+
+	/**
+	 * counts records of a standard csv file in {@code UTF-8}, as described by
+	 * RFC 4180
+	 *
+	 * @param path the csv file
+	 * @return number of records
+	 * @throws IOException if the file could not be read
+	 * @see #count(Path, Dialect)
+	 */
+	public static long count(Path path) throws IOException {
+		return count(path, Dialect.RFC4180);
+	}
+
+	/**
+	 * counts records of a delimited csv file in {@code UTF-8}, where a quoted
+	 * column may even contain line breaks. Walks the raw bytes for line breaks
+	 * outside quotes, skipping 8 plain bytes at a time, without decoding or
+	 * splitting anything.
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to count by, must all be
+	 *                {@code ASCII} characters
+	 * @return number of records, including a last one without a line break
+	 * @throws IOException if the file could not be read
+	 */
+	public static long count(Path path, Dialect dialect) throws IOException {
+		return RecordSurvey.count(path, dialect);
+	}
+
+	/**
+	 * estimates the number of records of a delimited csv file in {@code UTF-8},
+	 * from its size and the average size of the records within its first
+	 * {@value RecordSurvey#ESTIMATE_SAMPLE} bytes, i.e. the same time for a file
+	 * of any size
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to count by, must all be
+	 *                {@code ASCII} characters
+	 * @return estimated number of records, exact for a file no larger than the
+	 *         sample
+	 * @throws IOException if the file could not be read
+	 */
+	public static long estimate(Path path, Dialect dialect) throws IOException {
+		return RecordSurvey.estimate(path, dialect);
+	}
+
+	/**
+	 * reads whole records of a delimited csv file in {@code UTF-8}, after
+	 * skipping some, e.g. a block of headers. The records skipped are only walked
+	 * over as raw bytes, same as {@link #count(Path, Dialect)}, never decoded nor
+	 * split.
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @param records number of records to skip
+	 * @return {@link Stream} of the rest of the records, each record as columns
+	 * @throws IOException if the file could not be read
+	 */
+	public static Stream<String[]> skip(Path path, Dialect dialect, long records) throws IOException {
+		return RecordSurvey.skip(path, dialect, records);
+	}
+
+	/**
+	 * samples records of a delimited csv file in {@code UTF-8}, each with the
+	 * same probability, e.g. {@code 0.01} for about 1% of the records. Only the
+	 * sampled records are decoded and split.
+	 * <p>
+	 * The returned stream holds an open file, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 *
+	 * @param path        the csv file
+	 * @param dialect     delimiter, quote and escape mode to split by, must all
+	 *                    be {@code ASCII} characters
+	 * @param probability of each record being sampled, within {@code (0, 1]}
+	 * @param seed        of the random generator, the same seed sampling the same
+	 *                    records
+	 * @return {@link Stream} of sampled records, in file order
+	 * @throws IOException if the file could not be opened
+	 */
+	public static Stream<String[]> sample(Path path, Dialect dialect, double probability, long seed) throws IOException {
+		return RecordSurvey.sample(path, dialect, probability, seed);
+	}
+
+	/**
+	 * samples a fixed number of records of a delimited csv file in
+	 * {@code UTF-8} uniformly, in a single pass over the file. Only the sampled
+	 * records are decoded and split, once the pass ends.
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @param size    number of records to sample
+	 * @param seed    of the random generator, the same seed sampling the same
+	 *                records
+	 * @return sampled records in file order, all of them if there aren't more
+	 * @throws IOException if the file could not be read
+	 */
+	public static List<String[]> reservoir(Path path, Dialect dialect, int size, long seed) throws IOException {
+		return RecordSurvey.reservoir(path, dialect, size, seed);
+	}
+
+	/**
+	 * reads lines to beans in steps running side by side, i.e.
+	 * {@code pipeline(lines).split(csv()).decorate(strip()).bind(auto(Bean.class), 4)}
+	 * <p>
+	 * Reading, splitting, decorating and binding each run on a thread of their
+	 * own, and binding on as many workers as asked, handing batches of rows to
+	 * one another through bounded rings. Suits costly binding, e.g. of dates by
+	 * {@code @CsvFormat}, that would otherwise hold up reading.
+	 * </p>
+	 *
+	 * @param lines lines to read, closed when the stream of beans is closed
+	 * @return pipeline, to be split and bound
+	 * @see CsvPipeline
+	 */
+	public static CsvPipeline pipeline(Stream<String> lines) {
+		return CsvPipeline.of(lines);
+	}
+
+	/**
+	 * reads many files at once into a single stream, i.e.
+	 * {@code files(dir, "*.csv").read(path -> Files.lines(path).map(csv()).map(auto(Bean.class)))}
+	 * <p>
+	 * Each file is read wholly on a thread of its own, a virtual thread where
+	 * available, up to {@value CsvFiles#CONCURRENCY} files at once by default,
+	 * so the time to open and read one file overlaps with others.
+	 * </p>
+	 *
+	 * @param directory where the files are, not searched recursively
+	 * @param glob      names of the files, e.g. {@code *.csv}
+	 * @return files, to be read, in the order of their names
+	 * @throws IOException if the directory could not be listed
+	 * @see CsvFiles
+	 */
+	public static CsvFiles files(Path directory, String glob) throws IOException {
+		List<Path> paths = new ArrayList<>();
+		try (DirectoryStream<Path> listed = Files.newDirectoryStream(directory, glob)) {
+			listed.forEach(paths::add);
+		}
+		paths.sort(null);
+
+		return CsvFiles.of(paths);
+	}
+
+	/**
+	 * reads many files at once into a single stream
+	 *
+	 * @param paths files to read
+	 * @return files, to be read
+	 * @see #files(Path, String)
+	 */
+	public static CsvFiles files(List<Path> paths) {
+		return CsvFiles.of(paths);
+	}
+
+	private static void close(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 	
 }
@@ -0,0 +1,50 @@
+package com.fluidapi.csv.reader;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Reads records of a source by their position, without reading through the
+ * records before them.
+ * <p>
+ * Holds the source open, hence should be closed, preferably using
+ * try-with-resources. Failure to read the source results in
+ * {@link UncheckedIOException}.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @param <R> type of a record
+ */
+public interface CsvRecordAccess<R> extends Closeable {
+
+	/**
+	 * @return number of records
+	 */
+	long count();
+
+	/**
+	 * @param index 0-based record number
+	 * @return the record
+	 * @throws IndexOutOfBoundsException if there's no such record
+	 */
+	R get(long index);
+
+	/**
+	 * @param from 0-based record number, inclusive
+	 * @param to   0-based record number, exclusive
+	 * @return {@link Stream} of records in order, that may be made parallel
+	 * @throws IndexOutOfBoundsException if the range is not within the records
+	 */
+	Stream<R> range(long from, long to);
+
+	/**
+	 * @return {@link Stream} of all records in order
+	 */
+	default Stream<R> all() {
+		return range(0, count());
+	}
+
+}
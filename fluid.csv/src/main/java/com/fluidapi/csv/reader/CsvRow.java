@@ -0,0 +1,262 @@
+package com.fluidapi.csv.reader;
+
+import static java.util.Objects.checkIndex;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+import com.fluidapi.csv.reader.deserializer.DoubleColumnMapper;
+import com.fluidapi.csv.reader.deserializer.IntColumnMapper;
+import com.fluidapi.csv.reader.deserializer.LongColumnMapper;
+
+import lombok.NonNull;
+
+/**
+ * A row of columns that refers to the line it was split from, and holds only
+ * the bounds of each column, so that no column is copied unless asked for as a
+ * {@link String}.
+ * <p>
+ * A column that couldn't be a plain slice of the line, e.g. one with escape
+ * sequences resolved, is held as an already materialized {@link String}
+ * instead.
+ * </p>
+ * <p>
+ * Refers to the line it was split from, hence a mutable source must not be
+ * changed while the row is in use.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvLineSplitter#row(String)
+ * @see CsvBeanDeserializer#convert(CsvRow)
+ */
+public final class CsvRow {
+
+	private final CharSequence source;
+	private final int[] bounds;
+	private final String[] values;
+	private final int size;
+
+	/**
+	 * @param source the line columns are sliced from
+	 * @param bounds start and end of each column within the source, in pairs,
+	 *               {@code -1} for a {@code null} column
+	 * @param values materialized columns, taking precedence over bounds where not
+	 *               {@code null}, or {@code null} altogether if every column is a
+	 *               slice
+	 * @param size   number of columns
+	 */
+	public CsvRow(@NonNull CharSequence source, @NonNull int[] bounds, String[] values, int size) {
+		this.source = source;
+		this.bounds = bounds;
+		this.values = values;
+		this.size = size;
+	}
+
+	/**
+	 * a row of already materialized columns
+	 *
+	 * @param columns the columns, may contain {@code null}
+	 * @return the row
+	 */
+	public static CsvRow of(@NonNull String... columns) {
+		int[] bounds = new int[columns.length << 1];
+		for (int index = 0; index < columns.length; index++) {
+			if( columns[index] == null ) {
+				bounds[2 * index] = bounds[2 * index + 1] = -1;
+			}
+		}
+
+		return new CsvRow("", bounds, columns, columns.length);
+	}
+
+	/**
+	 * @return number of columns
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @param index 0-based column index
+	 * @return the column as a view over the line, without copying
+	 */
+	public CharSequence column(int index) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return value;
+		}
+
+		return CharBuffer.wrap(source, bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	/**
+	 * @param index 0-based column index
+	 * @return number of characters in the column, {@code 0} if {@code null}
+	 */
+	public int length(int index) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		return value != null ? value.length()
+			 : isNull(index) ? 0
+			 : bounds[2 * index + 1] - bounds[2 * index];
+	}
+
+	/**
+	 * compares the column with a text, without copying the column
+	 *
+	 * @param index 0-based column index
+	 * @param text  to compare with
+	 * @return if the column has the same characters as the text, or both are
+	 *         {@code null}
+	 */
+	public boolean equals(int index, CharSequence text) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return value == null ? text == null : value.contentEquals(text);
+		}
+
+		final int start = bounds[2 * index];
+		final int length = bounds[2 * index + 1] - start;
+		if( text == null || text.length() != length ) {
+			return false;
+		}
+
+		for (int at = 0; at < length; at++) {
+			if( source.charAt(start + at) != text.charAt(at) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * copies the column out as a {@link String}
+	 *
+	 * @param index 0-based column index
+	 * @return the column
+	 */
+	public String string(int index) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return value;
+		}
+
+		return source.subSequence(bounds[2 * index], bounds[2 * index + 1]).toString();
+	}
+
+	/**
+	 * copies the column out through a pool, so that a value already pooled isn't
+	 * copied at all
+	 *
+	 * @param index 0-based column index
+	 * @param pool  of canonical values
+	 * @return the pooled column
+	 * @since 0.3
+	 */
+	public String string(int index, @NonNull StringPool pool) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return pool.intern(value);
+		}
+
+		return pool.intern(source, bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	/**
+	 * maps the column straight off its characters, without copying it
+	 *
+	 * @param index  0-based column index
+	 * @param mapper maps the range of the column
+	 * @return mapped value
+	 * @since 0.3
+	 */
+	public int mapInt(int index, @NonNull IntColumnMapper mapper) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return mapper.mapInt(value);
+		}
+
+		return mapper.mapInt(source, bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	/**
+	 * maps the column straight off its characters, without copying it
+	 *
+	 * @param index  0-based column index
+	 * @param mapper maps the range of the column
+	 * @return mapped value
+	 * @since 0.3
+	 */
+	public long mapLong(int index, @NonNull LongColumnMapper mapper) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return mapper.mapLong(value);
+		}
+
+		return mapper.mapLong(source, bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	/**
+	 * maps the column straight off its characters, without copying it
+	 *
+	 * @param index  0-based column index
+	 * @param mapper maps the range of the column
+	 * @return mapped value
+	 * @since 0.3
+	 */
+	public double mapDouble(int index, @NonNull DoubleColumnMapper mapper) {
+		checkIndex(index, size);
+
+		String value = value(index);
+		if( value != null || isNull(index) ) {
+			return mapper.mapDouble(value);
+		}
+
+		return mapper.mapDouble(source, bounds[2 * index], bounds[2 * index + 1]);
+	}
+
+	/**
+	 * copies all columns out
+	 *
+	 * @return columns as {@code String[]}, as {@link CsvLineSplitter#split(String)}
+	 *         would produce
+	 */
+	public String[] toArray() {
+		String[] columns = new String[size];
+		for (int index = 0; index < size; index++) {
+			columns[index] = string(index);
+		}
+
+		return columns;
+	}
+
+	private String value(int index) {
+		return values == null ? null : values[index];
+	}
+
+	private boolean isNull(int index) {
+		return bounds[2 * index] < 0;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
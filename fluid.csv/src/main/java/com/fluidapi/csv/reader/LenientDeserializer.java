@@ -0,0 +1,150 @@
+package com.fluidapi.csv.reader;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.fluidapi.csv.bean.CsvError;
+import com.fluidapi.csv.exception.CsvColumnException;
+
+import lombok.NonNull;
+
+/**
+ * Maps rows leniently, i.e. hands a row that fails to an error sink as a
+ * {@link CsvError}, and goes on with the next, rather than failing the stream.
+ * Meant for {@code Stream.mapMulti}, so a bad row is simply not passed down,
+ * i.e. {@code lines.map(csv()).mapMulti(lenient(auto(Bean.class), errors::add))}
+ * <p>
+ * A column that fails to map is told as a {@link CsvColumnException}, which
+ * carries no stack trace of its own, the same as a line that can't be split,
+ * or a bean that fails validation, so that a bad row costs little more than a
+ * good one.
+ * </p>
+ * <p>
+ * Only a {@link Utf8Record} knows where it was read from, hence
+ * {@link CsvError#offset()} is told by {@link #utf8()} alone, and is always
+ * {@code -1} for columns, {@link #rows()} and {@link #lines(CsvLineSplitter)}.
+ * Use {@link CsvError#record()} to find such a row instead.
+ * </p>
+ * <p>
+ * Numbers rows as they pass, hence is meant for a sequential stream.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @param <T> bean type
+ * @see CsvReader#lenient(CsvBeanDeserializer, Consumer)
+ */
+public class LenientDeserializer<T> implements BiConsumer<String[], Consumer<T>> {
+
+	private final CsvBeanDeserializer<T> deserializer;
+	private final Consumer<CsvError> errors;
+
+	private long record;
+
+	public LenientDeserializer(@NonNull CsvBeanDeserializer<T> deserializer, @NonNull Consumer<CsvError> errors) {
+		this.deserializer = deserializer;
+		this.errors = errors;
+	}
+
+	@Override
+	public void accept(String[] columns, Consumer<T> downstream) {
+		record++;
+
+		T bean;
+		try {
+			bean = deserializer.convert(columns);
+		} catch (RuntimeException e) {
+			fail(-1, null, e);
+			return;
+		}
+
+		downstream.accept(bean);
+	}
+
+	/**
+	 * @return this, for {@link CsvRow}s, i.e.
+	 *         {@code rows.mapMulti(lenient(auto(Bean.class), errors::add).rows())}
+	 */
+	public BiConsumer<CsvRow, Consumer<T>> rows() {
+		return (row, downstream) -> {
+			record++;
+
+			T bean;
+			try {
+				bean = deserializer.convert(row);
+			} catch (RuntimeException e) {
+				fail(-1, null, e);
+				return;
+			}
+
+			downstream.accept(bean);
+		};
+	}
+
+	/**
+	 * @return this, for {@link Utf8Record}s, telling the byte offset of a row
+	 *         that fails
+	 */
+	public BiConsumer<Utf8Record, Consumer<T>> utf8() {
+		return (row, downstream) -> {
+			record++;
+
+			T bean;
+			try {
+				bean = deserializer.convert(row.toArray());
+			} catch (RuntimeException e) {
+				fail(row.offset(), null, e);
+				return;
+			}
+
+			downstream.accept(bean);
+		};
+	}
+
+	/**
+	 * @param splitter splits each line, a line that can't be split being told
+	 *                 with the line as its text
+	 * @return this, for lines, i.e.
+	 *         {@code lines.mapMulti(lenient(auto(Bean.class), errors::add).lines(csv()))}
+	 */
+	public BiConsumer<String, Consumer<T>> lines(@NonNull CsvLineSplitter splitter) {
+		return (line, downstream) -> {
+			record++;
+
+			T bean;
+			try {
+				String[] columns;
+				try {
+					columns = splitter.split(line);
+				} catch (RuntimeException e) {
+					fail(-1, line, e);
+					return;
+				}
+
+				bean = deserializer.convert(columns);
+			} catch (RuntimeException e) {
+				fail(-1, null, e);
+				return;
+			}
+
+			downstream.accept(bean);
+		};
+	}
+
+	/**
+	 * @return rows read so far, including those that failed
+	 */
+	public long records() {
+		return record;
+	}
+
+	private void fail(long offset, String text, RuntimeException e) {
+		if( e instanceof CsvColumnException column ) {
+			errors.accept(new CsvError(record, offset, column.getColumn(), column.getText(), e));
+		} else {
+			errors.accept(new CsvError(record, offset, -1, text, e));
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import lombok.NonNull;
+
+/**
+ * A bounded pool of canonical {@link String} instances, so that equal values
+ * share one instance, unlike {@link String#intern()} limited in size and held
+ * only as long as the pool is.
+ * <p>
+ * Values are looked up by a range of characters, so that a value already
+ * pooled isn't even copied out of the line. Entries are kept in an open
+ * addressing table of two to four times the entries, claimed by
+ * compare-and-set, and never evicted. Once full, or if a value's slots are all
+ * taken, the value is returned as is.
+ * </p>
+ * <p>
+ * Thread-safe, and lock-free.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class StringPool {
+
+	/**
+	 * default number of distinct values held at most
+	 */
+	public static final int MAX_ENTRIES = 1 << 12;
+
+	/**
+	 * slots looked into for a value, before it's given up on
+	 */
+	private static final int PROBES = 8;
+
+	private final AtomicReferenceArray<String> table;
+	private final int mask;
+	private final int shift;
+	private final int maxEntries;
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * @param maxEntries distinct values held at most
+	 */
+	public StringPool(int maxEntries) {
+		failIf(maxEntries < 1 || maxEntries > 1 << 28, "max entries must be between 1 and 2^28");
+
+		int capacity = Integer.highestOneBit(maxEntries) << 2;
+		this.table = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+		this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * @param value to look up, may be {@code null}
+	 * @return the pooled instance equal to the value, or the value itself
+	 */
+	public String intern(String value) {
+		return value == null ? null : intern(value, 0, value.length(), value);
+	}
+
+	/**
+	 * looks up a range of characters without copying it, unless not pooled yet
+	 *
+	 * @param source holds the value
+	 * @param from   index of the first character
+	 * @param to     index after the last character
+	 * @return the pooled instance equal to the range, or a copy of it
+	 */
+	public String intern(@NonNull CharSequence source, int from, int to) {
+		return intern(source, from, to, null);
+	}
+
+	/**
+	 * @return number of distinct values held
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * @param copy the range as a {@link String}, if there's one already
+	 */
+	private String intern(CharSequence source, int from, int to, String copy) {
+		int hash = 0;
+		for (int at = from; at < to; at++) {
+			hash = 31 * hash + source.charAt(at);
+		}
+
+		// fibonacci hashing, as values often differ only in the last character,
+		// which leaves their hashes next to one another
+		int slot = (hash * 0x9E3779B9) >>> shift;
+		for (int probe = 0; probe < PROBES; probe++, slot++) {
+			int index = slot & mask;
+
+			String entry = table.get(index);
+			if( entry == null ) {
+				// reserves room first, so that it never holds more than asked
+				if( size.incrementAndGet() > maxEntries ) {
+					size.decrementAndGet();
+					break;
+				}
+
+				String value = copy != null ? copy : source.subSequence(from, to).toString();
+				if( table.compareAndSet(index, null, value) ) {
+					return value;
+				}
+
+				// taken meanwhile, maybe by the same value
+				size.decrementAndGet();
+				entry = table.get(index);
+			}
+
+			if( entry.hashCode() == hash && equals(entry, source, from, to) ) {
+				return entry;
+			}
+		}
+
+		return copy != null ? copy : source.subSequence(from, to).toString();
+	}
+
+	private static boolean equals(String entry, CharSequence source, int from, int to) {
+		if( entry.length() != to - from ) {
+			return false;
+		}
+
+		for (int at = 0; at < entry.length(); at++) {
+			if( entry.charAt(at) != source.charAt(from + at) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+}
@@ -0,0 +1,170 @@
+package com.fluidapi.csv.reader;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.checkIndex;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.fluidapi.csv.bean.Dialect;
+
+import lombok.NonNull;
+
+/**
+ * A record parsed out of raw {@code UTF-8} bytes, that holds only the byte
+ * bounds of its columns, and decodes a column only when it is asked for.
+ * <p>
+ * A column consisting only of {@code ASCII} bytes, which is known while
+ * scanning, is decoded as {@code ISO-8859-1}, directly producing a compact
+ * {@link String} without going through the {@code UTF-8} decoder.
+ * </p>
+ * <p>
+ * Refers to the bytes it was parsed from, hence the source must not be changed
+ * while the record is in use. A decoded column is retained, so asking for it
+ * again doesn't decode it again.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#utf8(ByteBuffer, Dialect)
+ */
+public final class Utf8Record {
+
+	/**
+	 * column kind flag, set when all bytes are {@code ASCII}
+	 */
+	public static final byte ASCII = 1;
+
+	/**
+	 * column kind flag, set when the content contains escape sequences
+	 */
+	public static final byte ESCAPED = 2;
+
+	private final ByteBuffer source;
+	private final Dialect dialect;
+	private final long offset;
+	private final int[] bounds;
+	private final byte[] kinds;
+	private final int size;
+
+	private String[] decoded;
+
+	/**
+	 * @param source  bytes this record was parsed from
+	 * @param dialect the dialect it was parsed with, to unescape columns
+	 * @param offset  byte offset of the record within the whole input
+	 * @param bounds  start and end of each column content, in pairs, absolute
+	 *                within the source
+	 * @param kinds   {@link #ASCII} and {@link #ESCAPED} flags of each column
+	 * @param size    number of columns
+	 */
+	public Utf8Record(@NonNull ByteBuffer source, @NonNull Dialect dialect, long offset, @NonNull int[] bounds, @NonNull byte[] kinds, int size) {
+		this.source = source;
+		this.dialect = dialect;
+		this.offset = offset;
+		this.bounds = bounds;
+		this.kinds = kinds;
+		this.size = size;
+	}
+
+	/**
+	 * @return number of columns
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return byte offset of this record within the whole input
+	 */
+	public long offset() {
+		return offset;
+	}
+
+	/**
+	 * @param index 0-based column index
+	 * @return number of raw bytes in the column content, excluding quotes
+	 */
+	public int byteLength(int index) {
+		checkIndex(index, size);
+		return bounds[2 * index + 1] - bounds[2 * index];
+	}
+
+	/**
+	 * decodes the column, if not already decoded
+	 *
+	 * @param index 0-based column index
+	 * @return the column
+	 */
+	public String column(int index) {
+		checkIndex(index, size);
+
+		if( decoded == null ) {
+			decoded = new String[size];
+		}
+
+		String column = decoded[index];
+		if( column == null ) {
+			column = decoded[index] = decode(index);
+		}
+
+		return column;
+	}
+
+	/**
+	 * decodes all columns
+	 *
+	 * @return columns as {@code String[]}, as a {@link CsvLineSplitter} would
+	 *         produce
+	 */
+	public String[] toArray() {
+		String[] columns = new String[size];
+		for (int index = 0; index < size; index++) {
+			columns[index] = column(index);
+		}
+
+		return columns;
+	}
+
+	private String decode(int index) {
+		int start = bounds[2 * index];
+		int length = bounds[2 * index + 1] - start;
+		byte kind = kinds[index];
+
+		Charset charset = (kind & ASCII) != 0 ? ISO_8859_1 : UTF_8;
+		String column;
+		if( source.hasArray() ) {
+			column = new String(source.array(), source.arrayOffset() + start, length, charset);
+		} else {
+			byte[] bytes = new byte[length];
+			source.get(start, bytes);
+			column = new String(bytes, charset);
+		}
+
+		return (kind & ESCAPED) != 0 ? unescape(column) : column;
+	}
+
+	private String unescape(String content) {
+		final char escape = dialect.escape();
+		StringBuilder column = new StringBuilder(content.length());
+
+		int from = 0;
+		for (int at = 0; at < content.length(); at++) {
+			if( content.charAt(at) == escape ) {
+				// keep what follows the escape, drop the escape itself
+				column.append(content, from, at);
+				from = ++at;
+			}
+		}
+
+		return column.append(content, from, content.length()).toString();
+	}
+
+	@Override
+	public String toString() {
+		return String.join(String.valueOf(dialect.delimiter()), toArray());
+	}
+
+}
@@ -2,6 +2,8 @@ package com.fluidapi.csv.reader.deserializer;
 
 import java.util.function.Function;
 
+import com.fluidapi.csv.reader.CsvRow;
+
 /**
  * Since the reader does not support complex bean types, One can use this custom
  * column mapper to read a particular part of input and convert it into the
@@ -16,6 +18,18 @@ public interface CsvColumnMapper<T> extends Function<String, T> {
 
 	T map(String column);
 	
+	/**
+	 * maps a column of a row, where a mapper may avoid copying the column
+	 * 
+	 * @param row   columns of a line
+	 * @param index 0-based index of the column, within the row
+	 * @return mapped value
+	 * @since 0.3
+	 */
+	default T map(CsvRow row, int index) {
+		return map(row.string(index));
+	}
+	
 	@Override
 	default T apply(String t) {
 		return map(t);
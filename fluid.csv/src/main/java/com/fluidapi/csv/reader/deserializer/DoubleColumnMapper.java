@@ -0,0 +1,53 @@
+package com.fluidapi.csv.reader.deserializer;
+
+import com.fluidapi.csv.reader.CsvRow;
+
+/**
+ * A {@link CsvColumnMapper} to a primitive {@code double}, that maps a range of
+ * characters, e.g. a column sliced out of a line, without copying it to a
+ * {@link String} or boxing the result.
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+@FunctionalInterface
+public interface DoubleColumnMapper extends CsvColumnMapper<Double> {
+	
+	/**
+	 * @param text the characters, {@code null} for a {@code null} column
+	 * @param from start of the column, inclusive
+	 * @param to   end of the column, exclusive
+	 * @return mapped value
+	 */
+	double mapDouble(CharSequence text, int from, int to);
+	
+	/**
+	 * @param column the column, may be {@code null}
+	 * @return mapped value
+	 */
+	default double mapDouble(String column) {
+		return mapDouble(column, 0, column == null ? 0 : column.length());
+	}
+	
+	/**
+	 * maps a column of a row without copying it
+	 * 
+	 * @param row   columns of a line
+	 * @param index 0-based index of the column, within the row
+	 * @return mapped value
+	 */
+	default double mapDouble(CsvRow row, int index) {
+		return row.mapDouble(index, this);
+	}
+	
+	@Override
+	default Double map(String column) {
+		return mapDouble(column);
+	}
+	
+	@Override
+	default Double map(CsvRow row, int index) {
+		return mapDouble(row, index);
+	}
+	
+}
@@ -0,0 +1,52 @@
+package com.fluidapi.csv.reader.provider.columndecorator;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.util.stream.IntStream;
+
+import com.fluidapi.csv.reader.CsvColumnDecorator;
+import com.fluidapi.csv.reader.StringPool;
+
+import lombok.NonNull;
+
+/**
+ * Replaces columns with their canonical instance, each column in a
+ * {@link StringPool} of its own, so that repeating values across rows share a
+ * single {@link String}
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ * @see com.fluidapi.csv.annotations.CsvIntern
+ */
+public class InternColumns implements CsvColumnDecorator {
+	
+	private final int[] columns;
+	private final StringPool[] pools;
+	
+	/**
+	 * @param maxEntries distinct values held at most per column
+	 * @param columns    0-based indices of the columns to intern
+	 */
+	public InternColumns(int maxEntries, @NonNull int... columns) {
+		failIf(columns.length == 0, "no column to intern");
+		failIf(IntStream.of(columns).anyMatch(index -> index < 0), "negative index");
+		
+		this.columns = columns.clone();
+		this.pools = IntStream.of(columns)
+				.mapToObj(index -> new StringPool(maxEntries))
+				.toArray(StringPool[]::new);
+	}
+
+	@Override
+	public String[] decorate(String[] columns) {
+		for (int at = 0; at < this.columns.length; at++) {
+			int index = this.columns[at];
+			if( columns != null && index < columns.length ) {
+				columns[index] = pools[at].intern(columns[index]);
+			}
+		}
+		
+		return columns;
+	}
+
+}
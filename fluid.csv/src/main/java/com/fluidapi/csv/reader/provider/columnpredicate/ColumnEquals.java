@@ -0,0 +1,33 @@
+package com.fluidapi.csv.reader.provider.columnpredicate;
+
+import com.fluidapi.csv.reader.CsvRow;
+
+import lombok.NonNull;
+
+/**
+ * Matches a column having exactly the given text, compared in place within a
+ * {@link CsvRow}
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class ColumnEquals extends ColumnTest {
+	
+	private final String value;
+	
+	public ColumnEquals(int index, @NonNull String value) {
+		super(index);
+		this.value = value;
+	}
+
+	@Override
+	public boolean matches(CsvRow row) {
+		return index < row.size() && row.equals(index, value);
+	}
+
+	@Override
+	protected boolean test(CharSequence column) {
+		return contentEquals(column, value);
+	}
+	
+}
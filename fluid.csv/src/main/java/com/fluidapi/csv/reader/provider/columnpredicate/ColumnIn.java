@@ -0,0 +1,63 @@
+package com.fluidapi.csv.reader.provider.columnpredicate;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * Matches a column having any of the given texts.
+ * <p>
+ * Texts are held sorted by their hash, which is computed over the column's
+ * characters, same as {@link String#hashCode()}, so the column is looked up by
+ * a binary search without being copied to a {@link String}.
+ * </p>
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class ColumnIn extends ColumnTest {
+	
+	private final String[] values;
+	private final int[] hashes;
+	
+	public ColumnIn(int index, @NonNull String... values) {
+		super(index);
+		failIf(Arrays.stream(values).anyMatch(Objects::isNull), "null value");
+		
+		this.values = Arrays.stream(values)
+				.distinct()
+				.sorted(Comparator.comparingInt(String::hashCode))
+				.toArray(String[]::new);
+		this.hashes = Arrays.stream(this.values).mapToInt(String::hashCode).toArray();
+	}
+
+	@Override
+	protected boolean test(CharSequence column) {
+		int hash = 0;
+		for (int at = 0; at < column.length(); at++) {
+			hash = 31 * hash + column.charAt(at);
+		}
+		
+		int found = Arrays.binarySearch(hashes, hash);
+		if( found < 0 ) {
+			return false;
+		}
+		
+		// texts of the same hash are next to one another
+		while( found > 0 && hashes[found - 1] == hash ) {
+			found--;
+		}
+		for (; found < hashes.length && hashes[found] == hash; found++) {
+			if( contentEquals(column, values[found]) ) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+}
@@ -0,0 +1,35 @@
+package com.fluidapi.csv.reader.provider.columnpredicate;
+
+import lombok.NonNull;
+
+/**
+ * Matches a column starting with the given text
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class ColumnPrefix extends ColumnTest {
+	
+	private final String prefix;
+	
+	public ColumnPrefix(int index, @NonNull String prefix) {
+		super(index);
+		this.prefix = prefix;
+	}
+
+	@Override
+	protected boolean test(CharSequence column) {
+		if( column.length() < prefix.length() ) {
+			return false;
+		}
+		
+		for (int at = 0; at < prefix.length(); at++) {
+			if( column.charAt(at) != prefix.charAt(at) ) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+}
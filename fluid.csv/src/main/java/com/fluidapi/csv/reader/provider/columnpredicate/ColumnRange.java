@@ -0,0 +1,48 @@
+package com.fluidapi.csv.reader.provider.columnpredicate;
+
+import static com.fluidapi.csv.utility.NumberParsing.parseLong;
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import com.fluidapi.csv.utility.NumberParsing;
+
+/**
+ * Matches a column holding a whole number within the given range, both ends
+ * inclusive, read right off the characters by
+ * {@link NumberParsing#parseLong(CharSequence, int, int)}, the same as the
+ * column would be mapped. A column that isn't a whole number, e.g. is empty or
+ * has a fraction, or doesn't fit a {@code long}, never matches.
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class ColumnRange extends ColumnTest {
+	
+	private final long min;
+	private final long max;
+	
+	public ColumnRange(int index, long min, long max) {
+		super(index);
+		failIf(min > max, "min is greater than max");
+		
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	protected boolean test(CharSequence column) {
+		if( column.length() == 0 ) {
+			return false;
+		}
+		
+		long value;
+		try {
+			value = parseLong(column, 0, column.length());
+		} catch (NumberFormatException e) {
+			// thrown without a stack trace, hence cheap enough for a filter
+			return false;
+		}
+		
+		return value >= min && value <= max;
+	}
+	
+}
@@ -0,0 +1,63 @@
+package com.fluidapi.csv.reader.provider.columnpredicate;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import com.fluidapi.csv.reader.CsvColumnPredicate;
+import com.fluidapi.csv.reader.CsvRow;
+
+/**
+ * Tests a single column by its text, be it a {@link String} or a slice of a
+ * {@link CsvRow}. A missing or {@code null} column never matches.
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public abstract class ColumnTest implements CsvColumnPredicate {
+	
+	protected final int index;
+	
+	protected ColumnTest(int index) {
+		failIf(index < 0, "negative index");
+		this.index = index;
+	}
+
+	@Override
+	public final boolean matches(String[] columns) {
+		return columns != null && index < columns.length
+			&& columns[index] != null && test(columns[index]);
+	}
+
+	@Override
+	public boolean matches(CsvRow row) {
+		if( index >= row.size() ) {
+			return false;
+		}
+		
+		CharSequence column = row.column(index);
+		return column != null && test(column);
+	}
+	
+	/**
+	 * @param column text of the column, never {@code null}
+	 * @return if the column matches
+	 */
+	protected abstract boolean test(CharSequence column);
+	
+	/**
+	 * @return if both have the same characters
+	 */
+	static boolean contentEquals(CharSequence column, String value) {
+		if( column.length() != value.length() ) {
+			return false;
+		}
+		
+		for (int at = 0; at < value.length(); at++) {
+			if( column.charAt(at) != value.charAt(at) ) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+}
@@ -4,7 +4,9 @@ import static com.fluidapi.csv.bean.ValidateDuring.ALWAYS;
 import static com.fluidapi.csv.bean.ValidateDuring.DESERIALIZATION;
 
 import java.time.Year;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -24,6 +26,7 @@ import com.fluidapi.csv.provider.bean.CsvClassInfo;
 import com.fluidapi.csv.provider.bean.FieldInfo;
 import com.fluidapi.csv.provider.bean.SetterInfo;
 import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvRow;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
 import com.fluidapi.csv.validaton.BeanValidation;
 
@@ -80,7 +83,7 @@ import jakarta.validation.Valid;
 public class AutoBeanDeserializer<T> implements CsvBeanDeserializer<T> {
 
 	private final Supplier<T> constructor;
-	private final BiConsumer<T, String[]> populate;
+	private final BeanFieldUpdater<T> populate;
 	private final Consumer<T> validator;
 	
 	public AutoBeanDeserializer(Class<T> type) {
@@ -110,6 +113,20 @@ public class AutoBeanDeserializer<T> implements CsvBeanDeserializer<T> {
 		return instance;
 	}
 
+	@Override
+	public T convert(CsvRow row) {
+		T instance = constructor.get();
+		populate.accept(instance, row);
+		validator.accept(instance);
+
+		return instance;
+	}
+
+	@Override
+	public Optional<BitSet> requiredColumns() {
+		return Optional.of(populate.requiredColumns());
+	}
+
 	private Consumer<T> toValidator(CsvClassInfo<T> classInfo) {
 		
 		// if @Valid is added
@@ -168,6 +185,24 @@ public class AutoBeanDeserializer<T> implements CsvBeanDeserializer<T> {
 		public void accept(T instance, String[] columns) {
 			setters.forEach(setter -> setter.autoSet(instance, columns));
 		}
+
+		/**
+		 * @return indices of all columns any setter reads
+		 */
+		public BitSet requiredColumns() {
+			BitSet columns = new BitSet();
+			for (AutoSetter setter : setters) {
+				columns.set(setter.getCsvColumnIndex());
+			}
+			
+			return columns;
+		}
+
+		public void accept(T instance, CsvRow row) {
+			for (AutoSetter setter : setters) {
+				setter.autoSet(instance, row);
+			}
+		}
 		
 	}
 	
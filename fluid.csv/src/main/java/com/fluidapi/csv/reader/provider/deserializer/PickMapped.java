@@ -4,14 +4,20 @@ import static com.fluidapi.csv.validaton.FailCheck.failIf;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 
+import java.util.BitSet;
+import java.util.Optional;
+
+import com.fluidapi.csv.exception.CsvColumnException;
 import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvRow;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
 
 /**
  * Picks the said column by index, maps it using given mapper and returns. If
  * the set of columns doesn't have enough columns to pick the index,
  * {@code null} is returned immediately. However, if a column contains
- * {@code null}, it'll be up to the mapper to handle or fail.
+ * {@code null}, it'll be up to the mapper to handle or fail. A failure of the
+ * mapper is thrown as a {@link CsvColumnException}, telling the column.
  * 
  * <ul>
  * <li>the index must be a valid 0-based index, must not be negative.</li>
@@ -38,8 +44,43 @@ public class PickMapped<T> implements CsvBeanDeserializer<T> {
 
 	@Override
 	public T convert(String[] columns) {
-		return isOutOfRange(columns) ? null
-			 : withMapping.apply(columns[index]);
+		if( isOutOfRange(columns) ) {
+			return null;
+		}
+		
+		try {
+			return withMapping.apply(columns[index]);
+		} catch (CsvColumnException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new CsvColumnException(index, columns[index], e);
+		}
+	}
+
+	/**
+	 * copies only the picked column out of the row
+	 */
+	@Override
+	public T convert(CsvRow row) {
+		if( index >= row.size() ) {
+			return null;
+		}
+		
+		try {
+			return withMapping.map(row, index);
+		} catch (CsvColumnException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new CsvColumnException(index, row.string(index), e);
+		}
+	}
+
+	@Override
+	public Optional<BitSet> requiredColumns() {
+		BitSet columns = new BitSet(index + 1);
+		columns.set(index);
+		
+		return Optional.of(columns);
 	}
 
 	private boolean isOutOfRange(String[] columns) {
@@ -0,0 +1,33 @@
+package com.fluidapi.csv.reader.provider.deserializer.column;
+
+import com.fluidapi.csv.annotations.CsvIntern;
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.reader.StringPool;
+
+/**
+ * Maps a column to its canonical instance in a pool of its own, as asked by
+ * {@link CsvIntern @CsvIntern}. A column of a {@link CsvRow} is looked up
+ * without being copied.
+ * 
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class MapIntern extends MapString {
+	
+	private final StringPool pool;
+	
+	public MapIntern(int maxEntries) {
+		pool = new StringPool(maxEntries);
+	}
+	
+	@Override
+	public String map(String column) {
+		return pool.intern(column);
+	}
+	
+	@Override
+	public String map(CsvRow row, int index) {
+		return row.string(index, pool);
+	}
+	
+}
@@ -1,5 +1,6 @@
 package com.fluidapi.csv.reader.provider.deserializer.column;
 
+import com.fluidapi.csv.annotations.CsvIntern;
 import com.fluidapi.csv.reader.deserializer.CsvColumnMapper;
 import com.fluidapi.csv.utility.MapSupport;
 
@@ -13,6 +14,8 @@ public class MapString implements CsvColumnMapper<String> {
 	public static final MapSupport<MapString> support = new MapSupport<>();
 	
 	static {
-		support.register((t, u) -> new MapString(), String.class, CharSequence.class);
+		support.register((t, origin) -> origin.hasAnnotation(CsvIntern.class)
+				? new MapIntern(origin.findAnnotation(CsvIntern.class).maxEntries())
+				: new MapString(), String.class, CharSequence.class);
 	}
 }
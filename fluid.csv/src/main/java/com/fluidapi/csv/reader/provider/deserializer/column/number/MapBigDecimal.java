@@ -1,12 +1,26 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.number;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseBigDecimal;
+
 import java.math.BigDecimal;
 
+import com.fluidapi.csv.reader.CsvRow;
+
 public class MapBigDecimal extends MapNumber<BigDecimal> {
 
 	@Override
 	protected BigDecimal mapSafe(String column) {
-		return new BigDecimal(column);
+		return parseBigDecimal(column, 0, column.length());
+	}
+	
+	/**
+	 * parses the column through a view, without copying it
+	 */
+	@Override
+	public BigDecimal map(CsvRow row, int index) {
+		CharSequence column = row.column(index);
+		return column == null || column.length() == 0 ? null
+			 : parseBigDecimal(column, 0, column.length());
 	}
 	
 	static {
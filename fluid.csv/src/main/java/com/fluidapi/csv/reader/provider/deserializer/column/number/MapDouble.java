@@ -1,10 +1,24 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.number;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseDouble;
+
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.utility.NumberParsing;
+
 public class MapDouble extends MapNumber<Double> {
 
 	@Override
 	protected Double mapSafe(String column) {
-		return Double.valueOf(column);
+		return parseDouble(column, 0, column.length());
+	}
+	
+	/**
+	 * parses the column without copying it
+	 */
+	@Override
+	public Double map(CsvRow row, int index) {
+		return row.length(index) == 0 ? null
+			 : row.mapDouble(index, NumberParsing::parseDouble);
 	}
 	
 	static {
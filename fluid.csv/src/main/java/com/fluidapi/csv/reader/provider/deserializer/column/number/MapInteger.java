@@ -1,10 +1,24 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.number;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseInt;
+
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.utility.NumberParsing;
+
 public class MapInteger extends MapNumber<Integer> {
 
 	@Override
 	protected Integer mapSafe(String column) {
-		return Integer.valueOf(column);
+		return parseInt(column, 0, column.length());
+	}
+	
+	/**
+	 * parses the column without copying it
+	 */
+	@Override
+	public Integer map(CsvRow row, int index) {
+		return row.length(index) == 0 ? null
+			 : row.mapInt(index, NumberParsing::parseInt);
 	}
 	
 	static {
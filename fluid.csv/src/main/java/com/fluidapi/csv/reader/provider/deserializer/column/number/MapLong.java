@@ -1,10 +1,24 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.number;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseLong;
+
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.utility.NumberParsing;
+
 public class MapLong extends MapNumber<Long> {
 
 	@Override
 	protected Long mapSafe(String column) {
-		return Long.valueOf(column);
+		return parseLong(column, 0, column.length());
+	}
+	
+	/**
+	 * parses the column without copying it
+	 */
+	@Override
+	public Long map(CsvRow row, int index) {
+		return row.length(index) == 0 ? null
+			 : row.mapLong(index, NumberParsing::parseLong);
 	}
 	
 	static {
@@ -1,10 +1,12 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseInt;
+
 public class MapBytePrimitive extends MapPrimitive<Byte> {
 
 	@Override
 	protected Byte mapSafe(String column) {
-		return Byte.valueOf(column);
+		return (byte) parseInt(column, 0, column.length(), Byte.MIN_VALUE, Byte.MAX_VALUE);
 	}
 	
 	@Override
@@ -1,10 +1,19 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
-public class MapDoublePrimitive extends MapPrimitive<Double> {
+import static com.fluidapi.csv.utility.NumberParsing.parseDouble;
+
+import com.fluidapi.csv.reader.deserializer.DoubleColumnMapper;
+
+public class MapDoublePrimitive extends MapPrimitive<Double> implements DoubleColumnMapper {
+
+	@Override
+	public double mapDouble(CharSequence text, int from, int to) {
+		return text == null || from == to ? 0D : parseDouble(text, from, to);
+	}
 
 	@Override
 	protected Double mapSafe(String column) {
-		return Double.valueOf(column);
+		return parseDouble(column, 0, column.length());
 	}
 	
 	@Override
@@ -1,10 +1,25 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseFloat;
+
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.utility.NumberParsing;
+
 public class MapFloatPrimitive extends MapPrimitive<Float> {
 
 	@Override
 	protected Float mapSafe(String column) {
-		return Float.valueOf(column);
+		return parseFloat(column, 0, column.length());
+	}
+	
+	/**
+	 * parses the column without copying it, a {@code float} being exact as a
+	 * {@code double}
+	 */
+	@Override
+	public Float map(CsvRow row, int index) {
+		return row.length(index) == 0 ? 0f
+			 : (float) row.mapDouble(index, NumberParsing::parseFloat);
 	}
 	
 	@Override
@@ -1,10 +1,19 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
-public class MapIntPrimitive extends MapPrimitive<Integer> {
+import static com.fluidapi.csv.utility.NumberParsing.parseInt;
+
+import com.fluidapi.csv.reader.deserializer.IntColumnMapper;
+
+public class MapIntPrimitive extends MapPrimitive<Integer> implements IntColumnMapper {
+
+	@Override
+	public int mapInt(CharSequence text, int from, int to) {
+		return text == null || from == to ? 0 : parseInt(text, from, to);
+	}
 
 	@Override
 	protected Integer mapSafe(String column) {
-		return Integer.valueOf(column);
+		return parseInt(column, 0, column.length());
 	}
 	
 	@Override
@@ -1,10 +1,19 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
-public class MapLongPrimitive extends MapPrimitive<Long> {
+import static com.fluidapi.csv.utility.NumberParsing.parseLong;
+
+import com.fluidapi.csv.reader.deserializer.LongColumnMapper;
+
+public class MapLongPrimitive extends MapPrimitive<Long> implements LongColumnMapper {
+
+	@Override
+	public long mapLong(CharSequence text, int from, int to) {
+		return text == null || from == to ? 0L : parseLong(text, from, to);
+	}
 
 	@Override
 	protected Long mapSafe(String column) {
-		return Long.valueOf(column);
+		return parseLong(column, 0, column.length());
 	}
 	
 	@Override
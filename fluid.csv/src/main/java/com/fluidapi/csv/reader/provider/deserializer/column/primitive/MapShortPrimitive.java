@@ -1,10 +1,12 @@
 package com.fluidapi.csv.reader.provider.deserializer.column.primitive;
 
+import static com.fluidapi.csv.utility.NumberParsing.parseInt;
+
 public class MapShortPrimitive extends MapPrimitive<Short> {
 
 	@Override
 	protected Short mapSafe(String column) {
-		return Short.valueOf(column);
+		return (short) parseInt(column, 0, column.length(), Short.MIN_VALUE, Short.MAX_VALUE);
 	}
 	
 	@Override
@@ -11,7 +11,7 @@ public class MapCharacter extends MapWrapper<Character> {
 		// safe, so column.length() will always be > 0 at this point
 		failIf(	column.length() != 1,
 				() -> "character column must be of a single character, actual - " + column,
-				CsvFormatException::new);
+				CsvFormatException::stackless);
 		
 		return column.charAt(0);
 	}
@@ -0,0 +1,153 @@
+package com.fluidapi.csv.reader.provider.linesplitter;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+
+/**
+ * Walks a line once, field by field, as a finite state machine over
+ * {@link Dialect}.
+ * <p>
+ * Each call to {@link #next()} moves through the states <em>field start</em>
+ * &rarr; <em>unquoted</em> or <em>quoted</em> &rarr; <em>escaped</em> (within
+ * quoted only) &rarr; <em>closed</em> &rarr; <em>delimiter</em>, and leaves the
+ * bounds of the field content, excluding the enclosing quotes, in
+ * {@link #start} and {@link #end}. Nothing is copied unless asked for through
+ * {@link #value()}.
+ * </p>
+ * <p>
+ * Maintains state, hence one instance per line.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class DialectTokenizer {
+
+	private final Dialect dialect;
+	private final String line;
+
+	/**
+	 * where the next field starts, beyond the line length once exhausted
+	 */
+	private int index;
+
+	/**
+	 * content bounds of the current field
+	 */
+	int start, end;
+
+	/**
+	 * if the current field content contains escape sequences
+	 */
+	boolean escaped;
+
+	DialectTokenizer(Dialect dialect, String line) {
+		this.dialect = dialect;
+		this.line = line;
+		this.index = 0;
+	}
+
+	/**
+	 * @return if there's at least one more field, even an empty one
+	 */
+	boolean hasNext() {
+		return index <= line.length();
+	}
+
+	/**
+	 * moves on to the next field
+	 *
+	 * @throws CsvFormatException if a quote doesn't end, or is followed by
+	 *                            anything but a delimiter
+	 */
+	void next() {
+		if( index < line.length() && line.charAt(index) == dialect.quote() ) {
+			quoted();
+		} else {
+			unquoted();
+		}
+	}
+
+	/**
+	 * @return the current field content, unescaped if required
+	 */
+	String value() {
+		return escaped ? unescape() : line.substring(start, end);
+	}
+
+	private void unquoted() {
+		int at = line.indexOf(dialect.delimiter(), index);
+
+		start = index;
+		end = at < 0 ? line.length() : at;
+		escaped = false;
+
+		// past the delimiter, or past the end
+		index = end + 1;
+	}
+
+	private void quoted() {
+		final char quote = dialect.quote();
+		final char escape = dialect.escape();
+		final boolean doubled = dialect.isDoubledQuote();
+		final int length = line.length();
+
+		start = index + 1;
+		escaped = false;
+
+		int at = start;
+		while( true ) {
+			failIf(at >= length, "quote didn't end", CsvFormatException::stackless);
+			char character = line.charAt(at);
+
+			if( character == quote ) {
+				if( doubled && at + 1 < length && line.charAt(at + 1) == quote ) {
+					// doubled quote is content
+					escaped = true;
+					at += 2;
+					continue;
+				}
+
+				// closing quote
+				break;
+			}
+
+			if( character == escape && !doubled ) {
+				// whatever follows the escape is content
+				escaped = true;
+				at += 2;
+				continue;
+			}
+
+			at++;
+		}
+
+		end = at++;
+
+		// closed quote must be followed by a delimiter, or the end of line
+		failIf(at < length && line.charAt(at) != dialect.delimiter(),
+				() -> "unexpected character after closing quote at " + end,
+				CsvFormatException::stackless);
+
+		index = at + 1;
+	}
+
+	private String unescape() {
+		final char escape = dialect.escape();
+		StringBuilder content = new StringBuilder(end - start);
+
+		int from = start;
+		for (int at = from; at < end; at++) {
+			if( line.charAt(at) == escape ) {
+				// keep what follows the escape, drop the escape itself
+				content.append(line, from, at);
+				from = ++at;
+			}
+		}
+
+		return content.append(line, from, end).toString();
+	}
+
+}
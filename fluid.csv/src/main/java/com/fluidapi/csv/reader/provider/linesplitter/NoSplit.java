@@ -2,6 +2,7 @@ package com.fluidapi.csv.reader.provider.linesplitter;
 
 import com.fluidapi.csv.reader.CsvLineSplitter;
 import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRow;
 
 /**
  * Reads the whole line as a single column.
@@ -17,5 +18,20 @@ public class NoSplit implements CsvLineSplitter {
 	public String[] split(String line) {
 		return new String[] { line };
 	}
+
+	@Override
+	public int split(String line, String[] into) {
+		if( into.length > 0 ) {
+			into[0] = line;
+		}
+		
+		return 1;
+	}
+
+	@Override
+	public CsvRow row(String line) {
+		return line == null ? CsvRow.of((String) null)
+			 : new CsvRow(line, new int[] { 0, line.length() }, null, 1);
+	}
 	
 }
@@ -4,10 +4,13 @@ import static java.util.regex.Pattern.compile;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 
+import java.util.Arrays;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.fluidapi.csv.reader.CsvLineSplitter;
 import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRow;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -38,5 +41,91 @@ public class SplitByDelimiter implements CsvLineSplitter {
 	public String[] split(String line) {
 		return pattern.split(defaultIfEmpty(line, EMPTY));
 	}
+
+	/**
+	 * same as {@link Pattern#split(CharSequence)}, only without collecting the
+	 * columns into a list first
+	 */
+	@Override
+	public int split(String line, String[] into) {
+		line = defaultIfEmpty(line, EMPTY);
+		Matcher matcher = pattern.matcher(line);
+
+		int count = 0, retained = 0, from = 0;
+		while( matcher.find() ) {
+			// zero-width match at the beginning doesn't produce an empty column
+			if( from == 0 && matcher.end() == 0 ) {
+				continue;
+			}
+
+			count = put(into, count, line, from, matcher.start());
+			if( matcher.start() > from ) {
+				retained = count;
+			}
+
+			from = matcher.end();
+		}
+
+		// no match at all
+		if( from == 0 ) {
+			return put(into, 0, line, 0, line.length());
+		}
+
+		// trailing empty columns are removed
+		return from < line.length() ? put(into, count, line, from, line.length()) : retained;
+	}
+
+	/**
+	 * same bounds as {@link #split(String, String[])} would extract
+	 */
+	@Override
+	public CsvRow row(String line) {
+		line = defaultIfEmpty(line, EMPTY);
+		Matcher matcher = pattern.matcher(line);
+
+		int[] bounds = new int[16];
+		int count = 0, retained = 0, from = 0;
+		while( matcher.find() ) {
+			if( from == 0 && matcher.end() == 0 ) {
+				continue;
+			}
+
+			bounds = bound(bounds, count++, from, matcher.start());
+			if( matcher.start() > from ) {
+				retained = count;
+			}
+
+			from = matcher.end();
+		}
+
+		if( from == 0 ) {
+			return new CsvRow(line, new int[] { 0, line.length() }, null, 1);
+		}
+
+		if( from < line.length() ) {
+			bounds = bound(bounds, count++, from, line.length());
+			retained = count;
+		}
+
+		return new CsvRow(line, bounds, null, retained);
+	}
+
+	private static int[] bound(int[] bounds, int index, int from, int to) {
+		if( 2 * index == bounds.length ) {
+			bounds = Arrays.copyOf(bounds, index << 2);
+		}
+
+		bounds[2 * index] = from;
+		bounds[2 * index + 1] = to;
+		return bounds;
+	}
+
+	private static int put(String[] into, int index, String line, int from, int to) {
+		if( index < into.length ) {
+			into[index] = line.substring(from, to);
+		}
+
+		return index + 1;
+	}
 	
 }
@@ -0,0 +1,224 @@
+package com.fluidapi.csv.reader.provider.linesplitter;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.regex.Pattern;
+
+import com.fluidapi.csv.reader.CsvLineSplitter;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRow;
+
+import lombok.NonNull;
+
+/**
+ * Splits a line using a plain text delimiter, without involving the regex
+ * engine.
+ * <p>
+ * The result is identical to what {@link Pattern#split(CharSequence)} would
+ * produce for the same delimiter, i.e. trailing empty columns are removed, and
+ * a line without any delimiter results in a single column.
+ * </p>
+ * <p>
+ * Scans the line once to count columns and once more to extract them, so the
+ * resulting array is allocated exactly once with its final size.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#delimiter(String)
+ * @see CsvReader#delimiter(Pattern)
+ */
+public class SplitByLiteral implements CsvLineSplitter {
+
+	/**
+	 * plain text to split by, never empty
+	 */
+	private final String delimiter;
+
+	public SplitByLiteral(@NonNull String delimiter) {
+		failIf(delimiter.isEmpty(), "empty delimiter");
+		this.delimiter = delimiter;
+	}
+
+	@Override
+	public String[] split(String line) {
+		line = defaultIfEmpty(line, EMPTY);
+
+		int count = count(line);
+		if( count < 0 ) {
+			// no delimiter at all
+			return new String[] { line };
+		}
+
+		String[] columns = new String[count];
+		extract(line, columns, count);
+
+		return columns;
+	}
+
+	@Override
+	public int split(String line, String[] into) {
+		line = defaultIfEmpty(line, EMPTY);
+
+		int count = count(line);
+		if( count < 0 ) {
+			// no delimiter at all
+			if( into.length > 0 ) {
+				into[0] = line;
+			}
+
+			return 1;
+		}
+
+		extract(line, into, Math.min(count, into.length));
+		return count;
+	}
+
+	@Override
+	public CsvRow row(String line) {
+		line = defaultIfEmpty(line, EMPTY);
+
+		int count = count(line);
+		if( count < 0 ) {
+			// no delimiter at all
+			return new CsvRow(line, new int[] { 0, line.length() }, null, 1);
+		}
+
+		int[] bounds = new int[count << 1];
+		int from = 0;
+		for (int index = 0; index < count; index++) {
+			int at = indexOf(line, from);
+			int end = at < 0 ? line.length() : at;
+
+			bounds[2 * index] = from;
+			bounds[2 * index + 1] = end;
+			from = end + delimiter.length();
+		}
+
+		return new CsvRow(line, bounds, null, count);
+	}
+
+	/**
+	 * only copies the required columns, and skips from delimiter to delimiter
+	 * past the rest, up to the last required column
+	 */
+	@Override
+	public CsvLineSplitter project(@NonNull BitSet columns) {
+		BitSet required = (BitSet) columns.clone();
+		return line -> split(defaultIfEmpty(line, EMPTY), required);
+	}
+
+	/**
+	 * @param line     non-null line
+	 * @param required indices of columns to copy
+	 * @return required columns at their usual index, others {@code null}
+	 */
+	protected String[] split(String line, BitSet required) {
+		String[] columns = new String[required.length()];
+
+		int index = 0, retained = 0, from = 0;
+		while( index < columns.length ) {
+			int at = indexOf(line, from);
+			int end = at < 0 ? line.length() : at;
+
+			if( required.get(index) ) {
+				columns[index] = line.substring(from, end);
+			}
+
+			index++;
+			if( end > from || (at < 0 && index == 1) ) {
+				// non-empty, or the only column of a line without delimiter
+				retained = index;
+			}
+
+			if( at < 0 ) {
+				return retain(columns, retained);
+			}
+
+			from = at + delimiter.length();
+		}
+
+		// trailing empty columns are removed, unless followed by a non-empty one
+		return retain(columns, hasContent(line, from) ? index : retained);
+	}
+
+	/**
+	 * @return if any column from the index onwards is non-empty
+	 */
+	private boolean hasContent(String line, int from) {
+		while( from < line.length() ) {
+			if( !line.startsWith(delimiter, from) ) {
+				return true;
+			}
+
+			from += delimiter.length();
+		}
+
+		return false;
+	}
+
+	private static String[] retain(String[] columns, int count) {
+		return count == columns.length ? columns : Arrays.copyOf(columns, count);
+	}
+
+	/**
+	 * counts columns up to the last non-empty one
+	 *
+	 * @param line non-null line
+	 * @return number of columns, or {@code -1} if the line has no delimiter
+	 */
+	protected int count(String line) {
+		int columns = 0;
+		int retained = 0;
+
+		int from = 0;
+		for (int at = indexOf(line, from); at >= 0; at = indexOf(line, from)) {
+			columns++;
+
+			// trailing empty columns are only retained if followed by a non-empty one
+			if( at > from ) {
+				retained = columns;
+			}
+
+			from = at + delimiter.length();
+		}
+
+		if( columns == 0 ) {
+			return -1;
+		}
+
+		// last column, after the last delimiter
+		return from < line.length() ? columns + 1 : retained;
+	}
+
+	/**
+	 * fills the given array with columns in ltr order
+	 *
+	 * @param line    non-null line
+	 * @param columns destination, at least as long as the columns to extract
+	 * @param count   number of columns to extract
+	 */
+	protected void extract(String line, String[] columns, int count) {
+		int from = 0;
+		for (int index = 0; index < count; index++) {
+			int at = indexOf(line, from);
+			int end = at < 0 ? line.length() : at;
+
+			columns[index] = line.substring(from, end);
+			from = end + delimiter.length();
+		}
+	}
+
+	private int indexOf(String line, int from) {
+		// the char variant is considerably cheaper for the usual , ; | or tab
+		return delimiter.length() == 1
+				? line.indexOf(delimiter.charAt(0), from)
+				: line.indexOf(delimiter, from);
+	}
+
+}
@@ -0,0 +1,164 @@
+package com.fluidapi.csv.reader.provider.linesplitter;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvLineSplitter;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRow;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Splits a line by delimiter, where any column may optionally be enclosed in
+ * quotes, as described by RFC 4180.
+ * <p>
+ * Within quotes, delimiters are content, and quotes are escaped as per the
+ * {@link Dialect}, either by doubling them or by prefixing the escape
+ * character. The enclosing quotes are removed and escape sequences are
+ * resolved, so each column is exactly the intended content.
+ * </p>
+ * <p>
+ * Unlike {@link SplitByDelimiter}, trailing empty columns are retained, i.e.
+ * {@code a,b,} results in 3 columns. A quote that doesn't end, or any
+ * character other than delimiter after a closing quote, results in
+ * {@link CsvFormatException}. A quote in the middle of an unquoted column is
+ * treated as content.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#csv()
+ * @see CsvReader#csv(Dialect)
+ */
+@RequiredArgsConstructor
+public class SplitDialect implements CsvLineSplitter {
+
+	/**
+	 * initial guess of columns, grown as required
+	 */
+	private static final int INITIAL_COLUMNS = 16;
+
+	/**
+	 * property validation of dialect is done by {@link Dialect} class itself.
+	 */
+	@NonNull
+	private final Dialect dialect;
+
+	@Override
+	public String[] split(String line) {
+		DialectTokenizer tokenizer = new DialectTokenizer(dialect, defaultIfEmpty(line, EMPTY));
+
+		String[] columns = new String[INITIAL_COLUMNS];
+		int count = 0;
+
+		while( tokenizer.hasNext() ) {
+			tokenizer.next();
+
+			if( count == columns.length ) {
+				columns = Arrays.copyOf(columns, count << 1);
+			}
+
+			columns[count++] = tokenizer.value();
+		}
+
+		return count == columns.length ? columns : Arrays.copyOf(columns, count);
+	}
+
+	@Override
+	public int split(String line, String[] into) {
+		DialectTokenizer tokenizer = new DialectTokenizer(dialect, defaultIfEmpty(line, EMPTY));
+		int count = 0;
+
+		while( tokenizer.hasNext() ) {
+			tokenizer.next();
+
+			if( count < into.length ) {
+				into[count] = tokenizer.value();
+			}
+
+			count++;
+		}
+
+		return count;
+	}
+
+	/**
+	 * only copies the required columns, and only walks past the rest, up to the
+	 * last required column. The rest of the line is not validated.
+	 */
+	@Override
+	public CsvLineSplitter project(@NonNull BitSet columns) {
+		BitSet required = (BitSet) columns.clone();
+		return line -> split(defaultIfEmpty(line, EMPTY), required);
+	}
+
+	private String[] split(String line, BitSet required) {
+		DialectTokenizer tokenizer = new DialectTokenizer(dialect, line);
+		String[] columns = new String[required.length()];
+
+		int count = 0;
+		while( count < columns.length && tokenizer.hasNext() ) {
+			tokenizer.next();
+
+			if( required.get(count) ) {
+				columns[count] = tokenizer.value();
+			}
+
+			count++;
+		}
+
+		return count == columns.length ? columns : Arrays.copyOf(columns, count);
+	}
+
+	/**
+	 * only a column with escape sequences is copied, to resolve them
+	 */
+	@Override
+	public CsvRow row(String line) {
+		line = defaultIfEmpty(line, EMPTY);
+		DialectTokenizer tokenizer = new DialectTokenizer(dialect, line);
+
+		int[] bounds = new int[INITIAL_COLUMNS << 1];
+		String[] values = null;
+		int count = 0;
+
+		while( tokenizer.hasNext() ) {
+			tokenizer.next();
+
+			if( 2 * count == bounds.length ) {
+				bounds = Arrays.copyOf(bounds, count << 2);
+			}
+
+			bounds[2 * count] = tokenizer.start;
+			bounds[2 * count + 1] = tokenizer.end;
+
+			if( tokenizer.escaped ) {
+				if( values == null ) {
+					values = new String[bounds.length >> 1];
+				} else if( values.length <= count ) {
+					values = Arrays.copyOf(values, bounds.length >> 1);
+				}
+
+				values[count] = tokenizer.value();
+			}
+
+			count++;
+		}
+
+		// values must cover every column, if any
+		if( values != null && values.length < count ) {
+			values = Arrays.copyOf(values, count);
+		}
+
+		return new CsvRow(line, bounds, values, count);
+	}
+
+}
@@ -3,13 +3,14 @@ package com.fluidapi.csv.reader.provider.linesplitter;
 import static com.fluidapi.csv.utility.CollectionUtils.contains;
 import static com.fluidapi.csv.utility.IntPredicates.isNegative;
 import static com.fluidapi.csv.validaton.FailCheck.failIf;
-import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 
+import java.util.BitSet;
+
 import com.fluidapi.csv.reader.CsvLineSplitter;
 import com.fluidapi.csv.reader.CsvReader;
-import com.fluidapi.csv.service.provider.StringExtractor;
+import com.fluidapi.csv.reader.CsvRow;
 
 /**
  * To setup, provide each column length in ltr sequence.
@@ -37,17 +38,91 @@ public class SplitFixedLengths implements CsvLineSplitter {
 	 */
 	private final int[] lengths;
 
+	/**
+	 * where each column starts and ends within a line, precomputed so that no
+	 * column depends on the ones before it. Saturated at
+	 * {@link Integer#MAX_VALUE}, beyond which no line can reach anyway.
+	 */
+	private final int[] starts, ends;
+
 	public SplitFixedLengths(int... lengths) {
 		requireNonNull(lengths, "lengths");
 		failIf(isEmpty(lengths), "no length provided");
 		failIf(contains(lengths, isNegative()), "negative lengths");
 
-		this.lengths = lengths;
+		this.lengths = lengths.clone();
+		this.starts = new int[lengths.length];
+		this.ends = new int[lengths.length];
+
+		long offset = 0;
+		for (int index = 0; index < lengths.length; index++) {
+			starts[index] = (int) Math.min(offset, Integer.MAX_VALUE);
+			offset += lengths[index];
+			ends[index] = (int) Math.min(offset, Integer.MAX_VALUE);
+		}
 	}
 
 	@Override
 	public String[] split(String line) {
-		return stream(lengths).mapToObj(new StringExtractor(line)::next).toArray(String[]::new);
+		String[] columns = new String[lengths.length];
+		split(line, columns);
+		
+		return columns;
+	}
+
+	@Override
+	public int split(String line, String[] into) {
+		final int length = line.length();
+		final int count = Math.min(lengths.length, into.length);
+		
+		for (int index = 0; index < count; index++) {
+			into[index] = slice(line, length, index);
+		}
+		
+		return lengths.length;
+	}
+
+	/**
+	 * jumps straight to each required column, never visiting the rest
+	 */
+	@Override
+	public CsvLineSplitter project(BitSet columns) {
+		requireNonNull(columns, "columns");
+		
+		final int[] required = columns.stream()
+				.filter(index -> index < lengths.length)
+				.toArray();
+		
+		return line -> {
+			final int length = line.length();
+			String[] projected = new String[lengths.length];
+			
+			for (int index : required) {
+				projected[index] = slice(line, length, index);
+			}
+			
+			return projected;
+		};
+	}
+
+	@Override
+	public CsvRow row(String line) {
+		final int length = line.length();
+		int[] bounds = new int[lengths.length << 1];
+		
+		for (int index = 0; index < lengths.length; index++) {
+			bounds[2 * index] = Math.min(starts[index], length);
+			bounds[2 * index + 1] = Math.min(ends[index], length);
+		}
+		
+		return new CsvRow(line, bounds, null, lengths.length);
+	}
+
+	/**
+	 * columns past the end of a short line are empty
+	 */
+	private String slice(String line, int length, int index) {
+		return line.substring(Math.min(starts[index], length), Math.min(ends[index], length));
 	}
 
 }
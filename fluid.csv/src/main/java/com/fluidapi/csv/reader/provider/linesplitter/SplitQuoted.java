@@ -1,19 +1,14 @@
 package com.fluidapi.csv.reader.provider.linesplitter;
 
-import static com.fluidapi.csv.service.CharIndexFinder.failResponse;
 import static com.fluidapi.csv.validaton.FailCheck.failIf;
-import static org.apache.commons.lang3.StringUtils.isEmpty;
 
-import java.util.Objects;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.Arrays;
 
 import com.fluidapi.csv.bean.Quote;
 import com.fluidapi.csv.exception.CsvFormatException;
 import com.fluidapi.csv.reader.CsvLineSplitter;
 import com.fluidapi.csv.reader.CsvReader;
-import com.fluidapi.csv.service.CharIndexFinder;
-import com.fluidapi.csv.service.provider.UnescapedCharIndexFinder;
+import com.fluidapi.csv.reader.CsvRow;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +19,11 @@ import lombok.RequiredArgsConstructor;
  * quoted parts, but they're entirely ignored. Also, any text before the first
  * quote or after the last quote are also ignored. However, missing quote would
  * result in {@link CsvFormatException}
+ * <p>
+ * The line is walked once, where an escape character escapes whatever follows
+ * it, even another escape character. Columns are sliced straight out of the
+ * line, with escape sequences retained.
+ * </p>
  * 
  * @author Arindam Biswas
  * @since 0.1
@@ -36,6 +36,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SplitQuoted implements CsvLineSplitter {
 	
+	/**
+	 * initial guess of columns, grown as required
+	 */
+	private static final int INITIAL_COLUMNS = 16;
+	
 	/**
 	 * property validation of quote is done by {@link Quote} class itself.
 	 * no further validation is required, except for checking it is not null.
@@ -44,57 +49,106 @@ public class SplitQuoted implements CsvLineSplitter {
 	private final Quote quote;
 
 	@Override
-	public String[] split(String line) {
-		return Stream.generate(findNext(line))
-				.takeWhile(Objects::nonNull)
-				.toArray(String[]::new);
+	public String[] split(@NonNull String line) {
+		String[] columns = new String[INITIAL_COLUMNS];
+		int count = 0;
+		
+		for (int start = findStart(line, 0); start >= 0; ) {
+			int end = findEnd(line, start + 1);
+			if( count == columns.length ) {
+				columns = Arrays.copyOf(columns, count << 1);
+			}
+			
+			columns[count++] = line.substring(start + 1, end);
+			start = findStart(line, end + 1);
+		}
+		
+		return Arrays.copyOf(columns, count);
+	}
+
+	@Override
+	public int split(@NonNull String line, String[] into) {
+		int count = 0;
+		
+		for (int start = findStart(line, 0); start >= 0; ) {
+			int end = findEnd(line, start + 1);
+			if( count < into.length ) {
+				into[count] = line.substring(start + 1, end);
+			}
+			
+			count++;
+			start = findStart(line, end + 1);
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public CsvRow row(@NonNull String line) {
+		int[] bounds = new int[INITIAL_COLUMNS << 1];
+		int count = 0;
+		
+		for (int start = findStart(line, 0); start >= 0; ) {
+			int end = findEnd(line, start + 1);
+			if( 2 * count == bounds.length ) {
+				bounds = Arrays.copyOf(bounds, bounds.length << 1);
+			}
+			
+			bounds[2 * count] = start + 1;
+			bounds[2 * count + 1] = end;
+			count++;
+			start = findStart(line, end + 1);
+		}
+		
+		return new CsvRow(line, bounds, null, count);
 	}
 	
 	/**
-	 * returns a supplier, that, with each call to {@link Supplier#get()} would
-	 * return the next found column enclosed by defined quotes.
-	 * <p>
-	 * It would also try to validate if there's a quote mismatch in the line.
-	 * </p>
+	 * finds the next quote-start, skipping escaped characters
 	 * 
-	 * @param line a whole line to extract from
-	 * @return a supplier that would return columns in ltr order with each call to
-	 *         {@link Supplier#get()}
+	 * @param line the whole line
+	 * @param from index to look from
+	 * @return index of the quote-start, or {@code -1} if there's none
 	 */
-	protected Supplier<String> findNext(String line) {
-		CharIndexFinder index = new UnescapedCharIndexFinder(line, quote.escape());
-		return () -> {
-			
-			// find & validate if another occurrence of quote-start is there
-			int start = index.findNext(quote.start());
-			if( start == failResponse ) {
-				return null;
+	private int findStart(String line, int from) {
+		final int length = line.length();
+		for (int index = from; index < length; index++) {
+			char current = line.charAt(index);
+			if( current == quote.escape() ) {
+				index++;
+			} else if( current == quote.start() ) {
+				return index;
 			}
-			
-			// find & validate if end quote is found
-			int end = index.findNext(quote.end());
-			failIf(end == failResponse, "quote didn't end", CsvFormatException::new);
-			
-			// extract next string, and validate if it contains start of quote
-			String next = line.substring(start + 1, end);
-			verifyColumn(next);
-			
-			return next;
-		};
+		}
+		
+		return -1;
 	}
-
+	
 	/**
-	 * checks if next found column contains any unescaped start quote
+	 * finds the quote-end of the quote begun right before, skipping escaped
+	 * characters, and validates that no other quote starts before it
 	 * 
-	 * @param column the next possible value for next column
+	 * @param line the whole line
+	 * @param from index right after the quote-start
+	 * @return index of the quote-end
 	 */
-	protected void verifyColumn(String column) {
-		if( !isEmpty(column) ) {
-			CharIndexFinder verifier = new UnescapedCharIndexFinder(column, quote.escape());
-			failIf(verifier.findNext(quote.start()) == failResponse,
-					"Quote restarted before ending the existing one",
-					CsvFormatException::new);
+	private int findEnd(String line, int from) {
+		final int length = line.length();
+		boolean restarted = false;
+		
+		for (int index = from; index < length; index++) {
+			char current = line.charAt(index);
+			if( current == quote.escape() ) {
+				index++;
+			} else if( current == quote.end() ) {
+				failIf(restarted, "Quote restarted before ending the existing one", CsvFormatException::stackless);
+				return index;
+			} else {
+				restarted |= current == quote.start();
+			}
 		}
+		
+		throw CsvFormatException.stackless("quote didn't end");
 	}
 
 }
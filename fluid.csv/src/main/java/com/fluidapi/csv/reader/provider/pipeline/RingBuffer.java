@@ -0,0 +1,129 @@
+package com.fluidapi.csv.reader.provider.pipeline;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free queue between exactly one producer thread and exactly
+ * one consumer thread, as a ring of slots claimed by ever increasing sequence
+ * numbers.
+ * <p>
+ * The producer publishes a slot by advancing its sequence with release
+ * semantics, and the consumer frees it the same way, so neither ever blocks the
+ * other. Each side caches the other's sequence, and reads it again only when the
+ * ring seems full, or empty.
+ * </p>
+ * <p>
+ * Thread-safe only for a single producer and a single consumer.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class RingBuffer<E> {
+
+	private static final int SPINS = 100;
+	private static final int YIELDS = 200;
+	private static final long PARK_NANOS = 50_000;
+
+	private final Object[] slots;
+	private final int mask;
+
+	/**
+	 * next sequence to take, written by the consumer only
+	 */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * next sequence to put, written by the producer only
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * {@link #head} as last seen by the producer
+	 */
+	private long cachedHead;
+
+	/**
+	 * {@link #tail} as last seen by the consumer
+	 */
+	private long cachedTail;
+
+	/**
+	 * @param capacity slots, rounded up to a power of 2
+	 */
+	RingBuffer(int capacity) {
+		failIf(capacity < 1 || capacity > 1 << 30, "capacity must be between 1 and 2^30");
+
+		int size = 1;
+		while( size < capacity ) {
+			size <<= 1;
+		}
+
+		this.slots = new Object[size];
+		this.mask = slots.length - 1;
+	}
+
+	/**
+	 * puts the element if there's room
+	 *
+	 * @param element to put
+	 * @return if it was put
+	 */
+	boolean offer(E element) {
+		long sequence = tail.get();
+		if( sequence - cachedHead >= slots.length ) {
+			cachedHead = head.get();
+			if( sequence - cachedHead >= slots.length ) {
+				return false;
+			}
+		}
+
+		slots[(int) sequence & mask] = element;
+		tail.lazySet(sequence + 1);
+
+		return true;
+	}
+
+	/**
+	 * takes the oldest element if any
+	 *
+	 * @return the element, or {@code null} if empty
+	 */
+	@SuppressWarnings("unchecked")
+	E poll() {
+		long sequence = head.get();
+		if( sequence >= cachedTail ) {
+			cachedTail = tail.get();
+			if( sequence >= cachedTail ) {
+				return null;
+			}
+		}
+
+		int slot = (int) sequence & mask;
+		E element = (E) slots[slot];
+		slots[slot] = null;
+		head.lazySet(sequence + 1);
+
+		return element;
+	}
+
+	/**
+	 * backs off while waiting on a full, or empty ring. Spins first, as the other
+	 * side is usually about to catch up, then yields, then parks briefly.
+	 *
+	 * @param attempt how many times it waited in a row
+	 */
+	static void idle(int attempt) {
+		if( attempt < SPINS ) {
+			Thread.onSpinWait();
+		} else if( attempt < YIELDS ) {
+			Thread.yield();
+		} else {
+			LockSupport.parkNanos(PARK_NANOS);
+		}
+	}
+
+}
@@ -0,0 +1,328 @@
+package com.fluidapi.csv.reader.provider.pipeline;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import com.fluidapi.csv.exception.CsvException;
+import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvColumnDecorator;
+import com.fluidapi.csv.reader.CsvLineSplitter;
+import com.fluidapi.csv.reader.CsvPipeline;
+
+import lombok.NonNull;
+
+/**
+ * Runs every step of reading beans on a thread of its own, i.e. reading lines,
+ * splitting them, decorating the columns, and binding them to beans on one or
+ * more workers, each step handing batches of rows to the next through a
+ * {@link RingBuffer}.
+ * <p>
+ * Batches are numbered as they're read, and batch {@code N} is always bound by
+ * worker {@code N % workers}. The consumer takes them back in the same order,
+ * so beans come out in the order of the lines, with no reordering buffer. A
+ * batch is transformed in place, by one step at a time.
+ * </p>
+ * <p>
+ * Every ring is bounded, hence a step waits while the next one is behind, and
+ * at most {@code capacity} batches per ring are held in memory. The first
+ * failure of any step stops all of them, and is thrown to the consumer.
+ * </p>
+ * <p>
+ * Not thread-safe, the same as any {@link Iterator}, and should be closed if not
+ * read till the end. Steps of a pipeline abandoned without closing are stopped
+ * anyway, once the pipeline is garbage collected, as the steps never refer back
+ * to it.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvPipeline
+ */
+public final class StagedPipeline<T> implements Iterator<T>, AutoCloseable {
+
+	/**
+	 * marks the end of lines, passed on to every worker
+	 */
+	private static final Object[] END = new Object[0];
+
+	/**
+	 * stops the steps of pipelines no longer reachable, yet never closed
+	 */
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	/**
+	 * thrown within a step to leave, once stopped
+	 */
+	private static final class Stopped extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Stopped() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final Steps steps;
+	private final Cleaner.Cleanable cleanable;
+	private final RingBuffer<Object[]>[] results;
+
+	/**
+	 * sequence of the next batch to take
+	 */
+	private long sequence;
+	private Object[] current = {};
+	private int position;
+	private boolean ended;
+
+	/**
+	 * starts every step right away
+	 *
+	 * @param lines        lines to read, on a thread of its own
+	 * @param splitter     splits each line
+	 * @param decorator    decorates the columns, or {@code null} to skip the step
+	 * @param deserializer binds each row, must be thread-safe if more than one
+	 *                     worker
+	 * @param batch        rows per batch
+	 * @param capacity     batches each ring holds
+	 * @param workers      threads binding beans
+	 */
+	public StagedPipeline(@NonNull Iterator<String> lines, @NonNull CsvLineSplitter splitter,
+			CsvColumnDecorator decorator, @NonNull CsvBeanDeserializer<T> deserializer,
+			int batch, int capacity, int workers) {
+		failIf(batch < 1, "batch must be positive");
+		failIf(capacity < 1, "capacity must be positive");
+		failIf(workers < 1, "at least 1 worker is required");
+
+		// a local, so that no step refers to the pipeline itself
+		Steps steps = new Steps(lines, batch);
+
+		RingBuffer<Object[]> read = new RingBuffer<>(capacity);
+		RingBuffer<Object[]> split = read;
+		if( decorator != null ) {
+			split = new RingBuffer<>(capacity);
+		}
+
+		RingBuffer<Object[]>[] work = rings(workers, capacity);
+		RingBuffer<Object[]>[] results = rings(workers, capacity);
+
+		steps.start("read", () -> steps.read(read));
+		if( decorator == null ) {
+			steps.start("split", () -> steps.distribute(read, work, line -> splitter.split((String) line)));
+		} else {
+			RingBuffer<Object[]> decorate = split;
+			steps.start("split", () -> steps.transform(read, decorate, line -> splitter.split((String) line)));
+			steps.start("decorate", () -> steps.distribute(decorate, work, columns -> decorator.decorate((String[]) columns)));
+		}
+
+		for (int worker = 0; worker < workers; worker++) {
+			RingBuffer<Object[]> from = work[worker], to = results[worker];
+			steps.start("bind-" + worker, () -> steps.transform(from, to, columns -> deserializer.convert((String[]) columns)));
+		}
+
+		this.steps = steps;
+		this.results = results;
+		this.cleanable = CLEANER.register(this, steps);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while( position == current.length ) {
+			if( ended ) {
+				return false;
+			}
+
+			current = take(results[(int) (sequence++ % results.length)]);
+			position = 0;
+			ended = current == END;
+		}
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+
+		T bean = (T) current[position];
+		current[position++] = null;
+
+		return bean;
+	}
+
+	/**
+	 * stops every step, without waiting for them to leave
+	 */
+	@Override
+	public void close() {
+		cleanable.clean();
+	}
+
+	/**
+	 * waits for the next batch on the consumer, throwing the failure of any step
+	 */
+	private Object[] take(RingBuffer<Object[]> ring) {
+		for (int attempt = 0; ; attempt++) {
+			Object[] rows = ring.poll();
+			if( rows != null ) {
+				return rows;
+			}
+
+			Throwable cause = steps.failure.get();
+			if( cause != null ) {
+				close();
+				if( cause instanceof Error error ) {
+					throw error;
+				}
+				throw cause instanceof RuntimeException e ? e : new CsvException(cause);
+			}
+			failIf(steps.closed, "pipeline is closed", IllegalStateException::new);
+
+			RingBuffer.idle(attempt);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static RingBuffer<Object[]>[] rings(int count, int capacity) {
+		RingBuffer<Object[]>[] rings = (RingBuffer<Object[]>[]) new RingBuffer<?>[count];
+		for (int index = 0; index < count; index++) {
+			rings[index] = new RingBuffer<>(capacity);
+		}
+
+		return rings;
+	}
+
+	/**
+	 * threads of every step, and what they share, apart from the pipeline, so
+	 * that it may become unreachable while they run. Stops them all when run.
+	 */
+	private static final class Steps implements Runnable {
+
+		private final Iterator<String> lines;
+		private final int batch;
+
+		private final List<Thread> threads = new ArrayList<>();
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+		private volatile boolean closed;
+
+		Steps(Iterator<String> lines, int batch) {
+			this.lines = lines;
+			this.batch = batch;
+		}
+
+		@Override
+		public void run() {
+			closed = true;
+			threads.forEach(Thread::interrupt);
+		}
+
+		void start(String step, Runnable body) {
+			Thread thread = new Thread(() -> {
+				try {
+					body.run();
+				} catch (Stopped e) {
+					// leaving, as asked
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}, "fluid-csv-" + step);
+
+			thread.setDaemon(true);
+			threads.add(thread);
+			thread.start();
+		}
+
+		void read(RingBuffer<Object[]> to) {
+			while( true ) {
+				Object[] rows = new Object[batch];
+				int count = 0;
+				while( count < batch && lines.hasNext() ) {
+					rows[count++] = lines.next();
+				}
+
+				if( count == 0 ) {
+					put(to, END);
+					return;
+				}
+
+				put(to, count < batch ? Arrays.copyOf(rows, count) : rows);
+			}
+		}
+
+		void transform(RingBuffer<Object[]> from, RingBuffer<Object[]> to, Function<Object, Object> step) {
+			while( true ) {
+				Object[] rows = poll(from);
+				if( rows == END ) {
+					put(to, END);
+					return;
+				}
+
+				apply(rows, step);
+				put(to, rows);
+			}
+		}
+
+		/**
+		 * the last step before binding, hands batch {@code N} to worker
+		 * {@code N % workers}
+		 */
+		void distribute(RingBuffer<Object[]> from, RingBuffer<Object[]>[] to, Function<Object, Object> step) {
+			for (long next = 0; ; next++) {
+				Object[] rows = poll(from);
+				if( rows == END ) {
+					for (RingBuffer<Object[]> worker : to) {
+						put(worker, END);
+					}
+					return;
+				}
+
+				apply(rows, step);
+				put(to[(int) (next % to.length)], rows);
+			}
+		}
+
+		private static void apply(Object[] rows, Function<Object, Object> step) {
+			for (int index = 0; index < rows.length; index++) {
+				rows[index] = step.apply(rows[index]);
+			}
+		}
+
+		private void put(RingBuffer<Object[]> ring, Object[] rows) {
+			for (int attempt = 0; !ring.offer(rows); attempt++) {
+				if( stopped() ) {
+					throw new Stopped();
+				}
+				RingBuffer.idle(attempt);
+			}
+		}
+
+		private Object[] poll(RingBuffer<Object[]> ring) {
+			for (int attempt = 0; ; attempt++) {
+				Object[] rows = ring.poll();
+				if( rows != null ) {
+					return rows;
+				}
+				if( stopped() ) {
+					throw new Stopped();
+				}
+				RingBuffer.idle(attempt);
+			}
+		}
+
+		private boolean stopped() {
+			return closed || failure.get() != null;
+		}
+
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import com.fluidapi.csv.reader.CsvReader;
+
+import lombok.NonNull;
+
+/**
+ * Reads a file through a ring of large buffers, each filled by an
+ * {@link AsynchronousFileChannel} while the ones before it are consumed, so
+ * that the consumer seldom waits for a read, e.g. on a network mounted volume.
+ * <p>
+ * Every buffer is given a fixed range of the file as soon as it's consumed, so
+ * that all but the one in use are being read at any time. A buffer is handed
+ * over as it is, and a record straddling two buffers is left to the consumer,
+ * e.g. {@link RecordSpliterator} moves only the partial column.
+ * </p>
+ * <p>
+ * Not thread-safe, the same as any {@link InputStream}, though it's read on
+ * other threads.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#records(Path, com.fluidapi.csv.bean.Dialect, int, int)
+ */
+public class AsyncFileInputStream extends InputStream {
+
+	/**
+	 * default bytes per buffer
+	 */
+	public static final int BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * default number of buffers
+	 */
+	public static final int BUFFERS = 4;
+
+	private final AsynchronousFileChannel channel;
+	private final long size;
+
+	private final ByteBuffer[] buffers;
+	private final long[] starts;
+	private final Future<?>[] reads;
+
+	/**
+	 * where the range of the next buffer to read begins
+	 */
+	private long next;
+
+	/**
+	 * the buffer being consumed, {@code -1} before the first
+	 */
+	private int current = -1;
+
+	/**
+	 * whether the whole file has been consumed, as the buffer after the last is
+	 * never read into, and mustn't be served
+	 */
+	private boolean ended;
+
+	/**
+	 * opens the file, and starts reading into every buffer right away
+	 *
+	 * @param path       the file
+	 * @param bufferSize bytes per buffer
+	 * @param buffers    number of buffers, at least 2 to read ahead
+	 * @throws IOException if the file could not be opened
+	 */
+	public AsyncFileInputStream(@NonNull Path path, int bufferSize, int buffers) throws IOException {
+		failIf(bufferSize < 1, "buffer size must be positive");
+		failIf(buffers < 2, "at least 2 buffers are required to read ahead");
+
+		this.channel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+		try {
+			this.size = channel.size();
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+
+		this.buffers = new ByteBuffer[buffers];
+		this.starts = new long[buffers];
+		this.reads = new Future<?>[buffers];
+
+		for (int index = 0; index < buffers; index++) {
+			this.buffers[index] = ByteBuffer.allocate(bufferSize);
+			submit(index);
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		return hasRemaining() ? buffers[current].get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if( length == 0 ) {
+			return 0;
+		}
+
+		if( !hasRemaining() ) {
+			return -1;
+		}
+
+		ByteBuffer buffer = buffers[current];
+		int read = Math.min(length, buffer.remaining());
+		buffer.get(bytes, offset, read);
+
+		return read;
+	}
+
+	@Override
+	public int available() {
+		return current < 0 || ended ? 0 : buffers[current].remaining();
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private boolean hasRemaining() throws IOException {
+		if( ended ) {
+			return false;
+		}
+
+		while( current < 0 || !buffers[current].hasRemaining() ) {
+			if( current >= 0 ) {
+				// consumed, so it reads ahead next
+				submit(current);
+			}
+
+			current = (current + 1) % buffers.length;
+			if( reads[current] == null ) {
+				ended = true;
+				return false;
+			}
+
+			await(current);
+		}
+
+		return true;
+	}
+
+	/**
+	 * starts reading the next range of the file into the buffer
+	 */
+	private void submit(int index) {
+		if( next >= size ) {
+			reads[index] = null;
+			return;
+		}
+
+		ByteBuffer buffer = buffers[index];
+		buffer.clear().limit((int) Math.min(buffer.capacity(), size - next));
+
+		starts[index] = next;
+		reads[index] = channel.read(buffer, next);
+		next += buffer.limit();
+	}
+
+	/**
+	 * waits for the buffer to be read, completes a short read, and readies it to
+	 * be consumed
+	 */
+	private void await(int index) throws IOException {
+		ByteBuffer buffer = buffers[index];
+
+		try {
+			reads[index].get();
+			while( buffer.hasRemaining() ) {
+				if( channel.read(buffer, starts[index] + buffer.position()).get() < 0 ) {
+					// shrunk since opened
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while reading ahead");
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof IOException cause ? cause : new IOException(e.getCause());
+		}
+
+		buffer.flip();
+	}
+
+}
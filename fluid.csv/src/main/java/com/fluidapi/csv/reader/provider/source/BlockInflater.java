@@ -0,0 +1,458 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates a raw {@code DEFLATE} stream one block at a time, telling the exact
+ * bit where each block begins, which {@link java.util.zip.Inflater} doesn't.
+ * <p>
+ * Huffman codes are decoded through a lookup table of the longest code's width,
+ * so each symbol costs a single access. Inflated bytes are handed to the
+ * output in chunks, while the last {@value #WINDOW} bytes are retained to
+ * resolve back references, and to be asked for as a dictionary.
+ * </p>
+ * <p>
+ * Maintains state, hence not thread-safe.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class BlockInflater {
+
+	/**
+	 * receives inflated bytes in order
+	 */
+	@FunctionalInterface
+	interface Output {
+		void write(byte[] bytes, int from, int to);
+	}
+
+	/**
+	 * farthest a back reference may reach
+	 */
+	static final int WINDOW = 1 << 15;
+
+	private static final int CHUNK = 1 << 16;
+	private static final int MAX_MATCH = 258;
+	private static final int MAX_BITS = 15;
+
+	private static final int[] LENGTH_BASE = { 3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43, 51, 59,
+			67, 83, 99, 115, 131, 163, 195, 227, 258 };
+	private static final int[] LENGTH_EXTRA = { 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 4, 4, 4, 4,
+			5, 5, 5, 5, 0 };
+	private static final int[] DISTANCE_BASE = { 1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193, 257, 385,
+			513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289, 16385, 24577 };
+	private static final int[] DISTANCE_EXTRA = { 0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9, 10,
+			10, 11, 11, 12, 12, 13, 13 };
+	private static final int[] CODE_LENGTH_ORDER = { 16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15 };
+
+	private static final int[] FIXED_LITERALS = new int[1 << 9];
+	private static final int[] FIXED_DISTANCES = new int[1 << 5];
+
+	static {
+		byte[] lengths = new byte[288];
+		Arrays.fill(lengths, 0, 144, (byte) 8);
+		Arrays.fill(lengths, 144, 256, (byte) 9);
+		Arrays.fill(lengths, 256, 280, (byte) 7);
+		Arrays.fill(lengths, 280, 288, (byte) 8);
+
+		byte[] distances = new byte[30];
+		Arrays.fill(distances, (byte) 5);
+
+		try {
+			table(FIXED_LITERALS, lengths, 0, lengths.length);
+			table(FIXED_DISTANCES, distances, 0, distances.length);
+		} catch (ZipException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final InputStream input;
+	private final Output output;
+
+	private final byte[] in = new byte[CHUNK];
+	private int inPosition;
+	private int inLimit;
+
+	/**
+	 * bytes read before {@code in[0]}
+	 */
+	private long inBase;
+
+	private long bits;
+	private int bitCount;
+
+	private final byte[] out = new byte[WINDOW + CHUNK];
+	private int outPosition;
+	private int flushed;
+
+	/**
+	 * bytes inflated before {@code out[0]}
+	 */
+	private long outBase;
+
+	private final int[] literals = new int[1 << MAX_BITS];
+	private final int[] distances = new int[1 << MAX_BITS];
+	private final byte[] lengths = new byte[288 + 32];
+
+	private boolean last;
+
+	/**
+	 * bits of the first byte before the first block, yet to be skipped
+	 */
+	private int skip;
+
+	/**
+	 * @param input  compressed bytes, right from the first block
+	 * @param output receives inflated bytes
+	 */
+	BlockInflater(InputStream input, Output output) {
+		this.input = input;
+		this.output = output;
+	}
+
+	/**
+	 * resumes inflating at a block anywhere in the stream, even within a byte,
+	 * which {@link java.util.zip.Inflater} can't
+	 *
+	 * @param input    compressed bytes, from the byte the block begins in
+	 * @param skip     bits of that byte before the block, i.e. {@code 0-7}
+	 * @param position bytes inflated before the block
+	 * @param window   up to the last {@value #WINDOW} bytes inflated before the
+	 *                 block, to resolve back references
+	 * @param output   receives inflated bytes, from the block on
+	 */
+	BlockInflater(InputStream input, int skip, long position, byte[] window, Output output) {
+		this(input, output);
+		this.skip = skip;
+
+		System.arraycopy(window, 0, out, 0, window.length);
+		outPosition = flushed = window.length;
+		outBase = position - window.length;
+	}
+
+	/**
+	 * @return if the final block is yet to be inflated
+	 */
+	boolean hasNextBlock() {
+		return !last;
+	}
+
+	/**
+	 * @return bits read from the compressed bytes, i.e. where the next block
+	 *         begins, when between blocks
+	 */
+	long bitPosition() {
+		return (inBase + inPosition) * 8 - bitCount;
+	}
+
+	/**
+	 * @return bytes inflated so far
+	 */
+	long position() {
+		return outBase + outPosition;
+	}
+
+	/**
+	 * @return copy of up to the last {@value #WINDOW} bytes inflated, i.e. the
+	 *         dictionary to continue inflating from here
+	 */
+	byte[] window() {
+		return Arrays.copyOfRange(out, Math.max(0, outPosition - WINDOW), outPosition);
+	}
+
+	/**
+	 * hands every byte inflated so far to the output
+	 */
+	void flush() {
+		if( flushed < outPosition ) {
+			output.write(out, flushed, outPosition);
+			flushed = outPosition;
+		}
+	}
+
+	/**
+	 * after the final block, skips to the next byte boundary, and reads a little
+	 * endian {@code int}, e.g. of the gzip trailer
+	 *
+	 * @return the value
+	 * @throws IOException if the bytes ended
+	 */
+	int readInt() throws IOException {
+		consume(bitCount & 7);
+
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 8) {
+			value |= bits(8) << shift;
+		}
+
+		return value;
+	}
+
+	/**
+	 * @return if there's nothing more to read, after the last {@link #readInt()}
+	 * @throws IOException if the bytes could not be read
+	 */
+	boolean atEnd() throws IOException {
+		return bitCount == 0 && !refill();
+	}
+
+	/**
+	 * inflates the next block entirely
+	 *
+	 * @throws IOException if the bytes could not be read, or are corrupt
+	 */
+	void nextBlock() throws IOException {
+		if( skip > 0 ) {
+			bits(skip);
+			skip = 0;
+		}
+
+		last = bits(1) == 1;
+
+		switch (bits(2)) {
+		case 0:
+			stored();
+			break;
+		case 1:
+			codes(FIXED_LITERALS, 9, FIXED_DISTANCES, 5);
+			break;
+		case 2:
+			dynamic();
+			break;
+		default:
+			throw new ZipException("invalid block type");
+		}
+	}
+
+	private void stored() throws IOException {
+		consume(bitCount & 7);
+
+		int length = bits(16);
+		if( (length ^ 0xFFFF) != bits(16) ) {
+			throw new ZipException("invalid stored block length");
+		}
+
+		for (int copied = 0; copied < length; copied++) {
+			reserve();
+			out[outPosition++] = (byte) bits(8);
+		}
+	}
+
+	private void dynamic() throws IOException {
+		final int literalCount = bits(5) + 257;
+		final int distanceCount = bits(5) + 1;
+		final int codeLengthCount = bits(4) + 4;
+
+		byte[] codeLengths = new byte[19];
+		for (int index = 0; index < codeLengthCount; index++) {
+			codeLengths[CODE_LENGTH_ORDER[index]] = (byte) bits(3);
+		}
+
+		int[] codeLengthTable = new int[1 << 7];
+		int codeLengthBits = table(codeLengthTable, codeLengths, 0, codeLengths.length);
+
+		Arrays.fill(lengths, (byte) 0);
+		for (int index = 0; index < literalCount + distanceCount; ) {
+			int symbol = decode(codeLengthTable, codeLengthBits);
+			if( symbol < 16 ) {
+				lengths[index++] = (byte) symbol;
+				continue;
+			}
+
+			byte repeated = 0;
+			int times;
+			if( symbol == 16 ) {
+				if( index == 0 ) {
+					throw new ZipException("invalid code lengths");
+				}
+
+				repeated = lengths[index - 1];
+				times = 3 + bits(2);
+			} else if( symbol == 17 ) {
+				times = 3 + bits(3);
+			} else {
+				times = 11 + bits(7);
+			}
+
+			if( index + times > literalCount + distanceCount ) {
+				throw new ZipException("invalid code lengths");
+			}
+
+			Arrays.fill(lengths, index, index + times, repeated);
+			index += times;
+		}
+
+		if( lengths[256] == 0 ) {
+			throw new ZipException("missing end of block code");
+		}
+
+		byte[] distanceLengths = Arrays.copyOfRange(lengths, literalCount, literalCount + distanceCount);
+		codes(literals, table(literals, lengths, 0, literalCount),
+				distances, table(distances, distanceLengths, 0, distanceCount));
+	}
+
+	private void codes(int[] literalTable, int literalBits, int[] distanceTable, int distanceBits) throws IOException {
+		while( true ) {
+			refill();
+
+			int symbol = decode(literalTable, literalBits);
+			if( symbol < 256 ) {
+				reserve();
+				out[outPosition++] = (byte) symbol;
+				continue;
+			}
+
+			if( symbol == 256 ) {
+				return;
+			}
+
+			symbol -= 257;
+			if( symbol >= LENGTH_BASE.length ) {
+				throw new ZipException("invalid length code");
+			}
+
+			final int length = LENGTH_BASE[symbol] + bits(LENGTH_EXTRA[symbol]);
+
+			int code = decode(distanceTable, distanceBits);
+			if( code >= DISTANCE_BASE.length ) {
+				throw new ZipException("invalid distance code");
+			}
+
+			final int distance = DISTANCE_BASE[code] + bits(DISTANCE_EXTRA[code]);
+			if( distance > position() ) {
+				throw new ZipException("distance too far back");
+			}
+
+			reserve();
+			for (int from = outPosition - distance, to = from + length; from < to; from++) {
+				out[outPosition++] = out[from];
+			}
+		}
+	}
+
+	/**
+	 * makes room for a longest match, handing over bytes and sliding the window
+	 * back when full
+	 */
+	private void reserve() {
+		if( outPosition + MAX_MATCH <= out.length ) {
+			return;
+		}
+
+		flush();
+
+		int slide = outPosition - WINDOW;
+		System.arraycopy(out, slide, out, 0, WINDOW);
+		outBase += slide;
+		outPosition = flushed = WINDOW;
+	}
+
+	private int decode(int[] table, int width) throws IOException {
+		if( bitCount < width ) {
+			refill();
+		}
+
+		int entry = table[(int) bits & ((1 << width) - 1)];
+		int length = entry & 0xF;
+		if( length == 0 || length > bitCount ) {
+			throw new ZipException("invalid huffman code");
+		}
+
+		consume(length);
+		return entry >>> 4;
+	}
+
+	private int bits(int count) throws IOException {
+		if( bitCount < count ) {
+			refill();
+			if( bitCount < count ) {
+				throw new ZipException("unexpected end of compressed data");
+			}
+		}
+
+		int value = (int) bits & ((1 << count) - 1);
+		consume(count);
+
+		return value;
+	}
+
+	private void consume(int count) {
+		bits >>>= count;
+		bitCount -= count;
+	}
+
+	/**
+	 * loads bytes into the bit buffer, as many as it holds
+	 *
+	 * @return if any byte could be loaded
+	 */
+	private boolean refill() throws IOException {
+		boolean loaded = false;
+		while( bitCount <= 56 ) {
+			if( inPosition == inLimit ) {
+				inBase += inLimit;
+				inPosition = 0;
+				inLimit = Math.max(0, input.read(in));
+				if( inLimit == 0 ) {
+					break;
+				}
+			}
+
+			bits |= (long) (in[inPosition++] & 0xFF) << bitCount;
+			bitCount += 8;
+			loaded = true;
+		}
+
+		return loaded;
+	}
+
+	/**
+	 * fills a lookup table of canonical huffman codes, indexed by the next bits
+	 * as read, i.e. each code reversed, with {@code symbol << 4 | length}
+	 *
+	 * @return width of the table, i.e. the longest code
+	 */
+	private static int table(int[] table, byte[] lengths, int from, int count) throws ZipException {
+		int[] counts = new int[MAX_BITS + 1];
+		int width = 0;
+		for (int symbol = 0; symbol < count; symbol++) {
+			counts[lengths[from + symbol]]++;
+			width = Math.max(width, lengths[from + symbol]);
+		}
+
+		counts[0] = 0;
+		int left = 1;
+		int[] next = new int[MAX_BITS + 2];
+		for (int length = 1; length <= MAX_BITS; length++) {
+			left = (left << 1) - counts[length];
+			if( left < 0 ) {
+				throw new ZipException("over-subscribed huffman code");
+			}
+
+			next[length + 1] = (next[length] + counts[length]) << 1;
+		}
+
+		width = Math.max(width, 1);
+		Arrays.fill(table, 0, 1 << width, 0);
+
+		for (int symbol = 0; symbol < count; symbol++) {
+			int length = lengths[from + symbol];
+			if( length == 0 ) {
+				continue;
+			}
+
+			int reversed = Integer.reverse(next[length]++) >>> (32 - length);
+			for (int index = reversed; index < 1 << width; index += 1 << length) {
+				table[index] = symbol << 4 | length;
+			}
+		}
+
+		return width;
+	}
+
+}
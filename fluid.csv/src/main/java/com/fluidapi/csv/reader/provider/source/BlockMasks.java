@@ -0,0 +1,126 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.fluidapi.csv.bean.Dialect;
+
+/**
+ * Classifies a block of up to {@value #BLOCK} bytes at once into bitmasks, bit
+ * {@code i} standing for byte {@code i} of the block, one each for
+ * <ul>
+ * <li>{@link #QUOTES} - quote characters</li>
+ * <li>{@link #SEPARATORS} - delimiters and line breaks</li>
+ * <li>{@link #NON_ASCII} - bytes of multi-byte {@code UTF-8} sequences</li>
+ * </ul>
+ * <p>
+ * This is the scalar form, one byte at a time, used for the last partial block.
+ * {@link #vectorized(Dialect)} provides the {@code SIMD} form, when the
+ * {@code jdk.incubator.vector} module is present, unless disabled by the
+ * {@value #SWITCH} system property being {@code false}. It may keep scratch
+ * space, hence one instance per scanner.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class BlockMasks {
+
+	/**
+	 * bytes per block, one per bit of a {@code long}
+	 */
+	public static final int BLOCK = Long.SIZE;
+
+	public static final int QUOTES = 0;
+	public static final int SEPARATORS = 1;
+	public static final int NON_ASCII = 2;
+
+	/**
+	 * system property that disables {@code SIMD} when {@code false}
+	 */
+	public static final String SWITCH = "fluid.csv.simd";
+
+	private static final Constructor<? extends BlockMasks> VECTORIZED = vectorized();
+
+	protected final byte delimiter;
+	protected final byte quote;
+
+	public BlockMasks(Dialect dialect) {
+		this.delimiter = (byte) dialect.delimiter();
+		this.quote = (byte) dialect.quote();
+	}
+
+	/**
+	 * @param dialect structural characters, must all be {@code ASCII}
+	 * @return the {@code SIMD} form, or {@code null} if unavailable or disabled
+	 */
+	public static BlockMasks vectorized(Dialect dialect) {
+		try {
+			return VECTORIZED == null ? null : VECTORIZED.newInstance(dialect);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * classifies the bytes of a block
+	 *
+	 * @param buffer bytes to classify, read by absolute index
+	 * @param from   index of the first byte of the block
+	 * @param length number of bytes in the block, at most {@value #BLOCK}
+	 * @param into   masks, indexed by {@link #QUOTES}, {@link #SEPARATORS} and
+	 *               {@link #NON_ASCII}, bits past the length are left clear
+	 */
+	public void masks(ByteBuffer buffer, int from, int length, long[] into) {
+		long quotes = 0, separators = 0, nonAscii = 0;
+
+		for (int index = 0; index < length; index++) {
+			byte value = buffer.get(from + index);
+			long bit = 1L << index;
+
+			if( value == quote ) quotes |= bit;
+			if( value == delimiter || value == '\n' || value == '\r' ) separators |= bit;
+			if( value < 0 ) nonAscii |= bit;
+		}
+
+		into[QUOTES] = quotes;
+		into[SEPARATORS] = separators;
+		into[NON_ASCII] = nonAscii;
+	}
+
+	/**
+	 * loads the {@code SIMD} form reflectively, so that this class never links
+	 * against the vector module when it's absent, and tries it out on both heap
+	 * and direct bytes, as an incubating module may have changed in ways that
+	 * only surface once used
+	 */
+	private static Constructor<? extends BlockMasks> vectorized() {
+		if( !Boolean.parseBoolean(System.getProperty(SWITCH, "true")) ) {
+			return null;
+		}
+
+		try {
+			Class.forName("jdk.incubator.vector.ByteVector");
+			Constructor<? extends BlockMasks> vectorized = Class.forName(BlockMasks.class.getPackageName() + ".VectorMasks")
+					.asSubclass(BlockMasks.class)
+					.getDeclaredConstructor(Dialect.class);
+
+			byte[] probe = "Zeus,9012,\"Mount Olympus,\r\n\"\"Ελλάδα\"\"\"\n\"Philips\",5120,Hague\r\n"
+					.getBytes(UTF_8);
+			ByteBuffer direct = ByteBuffer.allocateDirect(probe.length).put(probe);
+
+			long[] expected = new long[3], heap = new long[3], mapped = new long[3];
+			new BlockMasks(Dialect.RFC4180).masks(ByteBuffer.wrap(probe), 0, BLOCK, expected);
+			vectorized.newInstance(Dialect.RFC4180).masks(ByteBuffer.wrap(probe), 0, BLOCK, heap);
+			vectorized.newInstance(Dialect.RFC4180).masks(direct, 0, BLOCK, mapped);
+
+			return Arrays.equals(expected, heap) && Arrays.equals(expected, mapped) ? vectorized : null;
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import com.fluidapi.csv.exception.CsvException;
+import com.fluidapi.csv.reader.CsvFiles;
+
+import lombok.NonNull;
+
+/**
+ * Reads several files at once, each wholly on a thread of its own, and hands
+ * their rows over file by file, either as each file is read, or in the order
+ * of the files.
+ * <p>
+ * Files are submitted as the rows are consumed, so that at most
+ * {@code concurrency} files are being read, or held read but not yet consumed,
+ * at any time. Reading is mostly waiting to open and read a file, hence
+ * virtual threads are used where available, i.e. Java 21 onwards, and a pool of
+ * {@code concurrency} daemon threads otherwise.
+ * </p>
+ * <p>
+ * A file that fails is handed to the error handler, and the rest are read on.
+ * </p>
+ * <p>
+ * Not thread-safe, the same as any {@link Iterator}, and should be closed if not
+ * read till the end.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvFiles
+ */
+public final class FileFanOut<T> implements Iterator<T>, AutoCloseable {
+
+	/**
+	 * rows of a file, or why it couldn't be read
+	 */
+	private record Result<T>(Path path, List<T> rows, Exception failure) {
+	}
+
+	private final Iterator<Path> paths;
+	private final CsvFiles.Source<T> source;
+	private final BiConsumer<Path, Exception> errors;
+	private final int concurrency;
+	private final boolean ordered;
+
+	private final ExecutorService executor;
+
+	/**
+	 * submitted files in order, when ordered
+	 */
+	private final Deque<CompletableFuture<Result<T>>> pending = new ArrayDeque<>();
+
+	/**
+	 * files as they're read, when unordered
+	 */
+	private final BlockingQueue<CompletableFuture<Result<T>>> done = new LinkedBlockingQueue<>();
+
+	private int inFlight;
+	private Iterator<T> current = Collections.emptyIterator();
+
+	/**
+	 * @param paths       files to read, each read once
+	 * @param source      reads a file, on any thread
+	 * @param errors      told of each file that fails, on the consuming thread
+	 * @param concurrency files read at once
+	 * @param ordered     if rows are handed over in the order of the files
+	 */
+	public FileFanOut(@NonNull Iterator<Path> paths, @NonNull CsvFiles.Source<T> source,
+			@NonNull BiConsumer<Path, Exception> errors, int concurrency, boolean ordered) {
+		failIf(concurrency < 1, "concurrency must be positive");
+
+		this.paths = paths;
+		this.source = source;
+		this.errors = errors;
+		this.concurrency = concurrency;
+		this.ordered = ordered;
+		this.executor = executor(concurrency);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while( !current.hasNext() ) {
+			submit();
+			if( inFlight == 0 ) {
+				close();
+				return false;
+			}
+
+			Result<T> result = take();
+			inFlight--;
+
+			if( result.failure() != null ) {
+				errors.accept(result.path(), result.failure());
+			} else {
+				current = result.rows().iterator();
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public T next() {
+		if( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+
+		return current.next();
+	}
+
+	/**
+	 * stops reading, without waiting for files being read
+	 */
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * tops up the files being read to the limit
+	 */
+	private void submit() {
+		while( inFlight < concurrency && paths.hasNext() ) {
+			Path path = paths.next();
+			CompletableFuture<Result<T>> future = CompletableFuture.supplyAsync(() -> read(path), executor);
+
+			if( ordered ) {
+				pending.add(future);
+			} else {
+				future.whenComplete((result, failure) -> done.add(future));
+			}
+			inFlight++;
+		}
+	}
+
+	private Result<T> take() {
+		if( ordered ) {
+			return pending.poll().join();
+		}
+
+		try {
+			return done.take().join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CsvException("interrupted while reading files", e);
+		}
+	}
+
+	private Result<T> read(Path path) {
+		try (Stream<T> rows = source.read(path)) {
+			return new Result<>(path, rows.toList(), null);
+		} catch (Exception e) {
+			return new Result<>(path, null, e);
+		}
+	}
+
+	/**
+	 * a virtual thread per file if supported, looked up reflectively as the
+	 * build targets an older Java, or a fixed pool of daemon threads
+	 */
+	private static ExecutorService executor(int concurrency) {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+			// not supported, or a preview not enabled
+		}
+
+		return Executors.newFixedThreadPool(concurrency, task -> {
+			Thread thread = new Thread(task, "fluid-csv-file");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+}
@@ -0,0 +1,246 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRecordAccess;
+
+import lombok.NonNull;
+
+/**
+ * A file of fixed length records, each being a line of a known number of bytes
+ * followed by a line terminator of a known number of bytes, so that record
+ * {@code N} is found at byte {@code N * (line + terminator)}.
+ * <p>
+ * Records are read by positional reads of the channel, that don't depend on
+ * its position, hence may be read from many threads at once. A range is read
+ * in bulk, many records per read, and splits evenly for parallel streams.
+ * </p>
+ * <p>
+ * The last record may be short, or lack its terminator. Each record is decoded
+ * without its terminator, and is best split further with
+ * {@link CsvReader#fixed(int...)}.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#fixedRecords(Path, int)
+ */
+public class FixedRecordFile implements CsvRecordAccess<String> {
+
+	/**
+	 * bytes read at once in a range, at least a record
+	 */
+	private static final int BULK = 1 << 16;
+
+	private final FileChannel channel;
+	private final Charset charset;
+	private final int lineLength;
+	private final int recordLength;
+	private final long size;
+	private final long count;
+
+	/**
+	 * @param channel           readable channel of the file, closed along with
+	 *                          this
+	 * @param lineLength        bytes in a record, excluding the terminator
+	 * @param terminatorLength  bytes in the terminator, e.g. 1 for {@code \n}, 2
+	 *                          for {@code \r\n}, or 0 if none
+	 * @param charset           to decode records with
+	 * @throws IOException if the size cannot be read
+	 */
+	public FixedRecordFile(@NonNull FileChannel channel, int lineLength, int terminatorLength, @NonNull Charset charset) throws IOException {
+		failIf(lineLength < 0 || terminatorLength < 0, "negative length");
+		failIf((long) lineLength + terminatorLength == 0, "empty records");
+		failIf((long) lineLength + terminatorLength > Integer.MAX_VALUE, "records too large");
+
+		this.channel = channel;
+		this.charset = charset;
+		this.lineLength = lineLength;
+		this.recordLength = lineLength + terminatorLength;
+		this.size = channel.size();
+
+		// the last may be short
+		this.count = (size + recordLength - 1) / recordLength;
+	}
+
+	/**
+	 * opens the file, telling the terminator from the bytes right after the first
+	 * line, i.e. {@code \r\n}, {@code \n}, {@code \r} or none
+	 *
+	 * @param path       the file
+	 * @param lineLength bytes in a record, excluding the terminator
+	 * @param charset    to decode records with
+	 * @return the file, open
+	 * @throws IOException if the file could not be opened
+	 */
+	public static FixedRecordFile open(@NonNull Path path, int lineLength, @NonNull Charset charset) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+		try {
+			ByteBuffer terminator = ByteBuffer.allocate(2);
+			channel.read(terminator, lineLength);
+			terminator.flip();
+
+			int terminatorLength = 0;
+			while( terminator.hasRemaining() && terminatorLength < 2 ) {
+				byte value = terminator.get();
+				boolean lineBreak = (value == '\r' && terminatorLength == 0) || value == '\n';
+				if( !lineBreak ) {
+					break;
+				}
+
+				terminatorLength++;
+				if( value == '\n' ) {
+					break;
+				}
+			}
+
+			return new FixedRecordFile(channel, lineLength, terminatorLength, charset);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public String get(long index) {
+		checkIndex(index, count);
+
+		long position = index * recordLength;
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(lineLength, size - position));
+		read(buffer, position);
+
+		return decode(buffer.array(), 0, buffer.limit());
+	}
+
+	@Override
+	public Stream<String> range(long from, long to) {
+		checkFromToIndex(from, to, count);
+		return StreamSupport.stream(new RangeSpliterator(from, to), false);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void read(ByteBuffer buffer, long position) {
+		try {
+			while( buffer.hasRemaining() ) {
+				int read = channel.read(buffer, position + buffer.position());
+				failIf(read < 0, "file ended before expected", IllegalStateException::new);
+			}
+
+			buffer.flip();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String decode(byte[] bytes, int from, int length) {
+		return new String(bytes, from, length, charset);
+	}
+
+	/**
+	 * reads records of a range in bulk, and splits the range in halves
+	 */
+	private class RangeSpliterator implements Spliterator<String> {
+
+		private long next;
+		private final long end;
+
+		private ByteBuffer buffer;
+
+		/**
+		 * record number of the first record in the buffer
+		 */
+		private long buffered;
+
+		RangeSpliterator(long from, long to) {
+			this.next = from;
+			this.end = to;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super String> action) {
+			if( next >= end ) {
+				return false;
+			}
+
+			if( buffer == null || !buffer.hasRemaining() ) {
+				fill();
+			}
+
+			// the last record may be short
+			int offset = (int) ((next - buffered) * recordLength);
+			int length = Math.min(lineLength, buffer.limit() - offset);
+
+			buffer.position(Math.min(buffer.limit(), offset + recordLength));
+			next++;
+
+			action.accept(decode(buffer.array(), offset, length));
+			return true;
+		}
+
+		@Override
+		public Spliterator<String> trySplit() {
+			long half = (end - next) >>> 1;
+			if( half < 2 ) {
+				return null;
+			}
+
+			Spliterator<String> prefix = new RangeSpliterator(next, next + half);
+			next += half;
+			buffer = null;
+
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - next;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+		}
+
+		private void fill() {
+			long records = Math.min(end - next, Math.max(1, BULK / recordLength));
+			long position = next * recordLength;
+			int bytes = (int) Math.min(records * recordLength, size - position);
+
+			if( buffer == null || buffer.capacity() < bytes ) {
+				buffer = ByteBuffer.allocate(bytes);
+			}
+
+			buffer.clear().limit(bytes);
+			read(buffer, position);
+			buffered = next;
+		}
+
+	}
+
+}
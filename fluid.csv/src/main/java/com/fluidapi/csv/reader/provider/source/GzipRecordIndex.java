@@ -0,0 +1,617 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRecordAccess;
+
+import lombok.NonNull;
+
+/**
+ * An index of checkpoints into a single member gzip file of a delimited csv in
+ * {@code UTF-8}, to start inflating right from a checkpoint near a record,
+ * instead of from the first byte, as {@code zran} of {@code zlib} does.
+ * <p>
+ * A checkpoint is taken at a {@code DEFLATE} block boundary about every
+ * {@code span} inflated bytes. It holds the exact bit where the block begins,
+ * the {@value BlockInflater#WINDOW} bytes inflated right before it, as the
+ * dictionary to resume with, and the first record that begins after it. The
+ * records are counted quote-aware with {@link RecordBoundaries} while the index
+ * is built, in a single pass.
+ * </p>
+ * <p>
+ * A range resumes at the last checkpoint before its first record, using
+ * {@link Inflater} with the dictionary, or {@link BlockInflater} if the block
+ * doesn't begin at a byte boundary, as {@link Inflater} can only begin at one,
+ * and shifting the bits would misplace the padding of any stored block after
+ * it, e.g. of a flush. The index may be saved next to
+ * the file, with every dictionary compressed, and loaded back, as long as the
+ * file is neither changed, nor read with a different dialect.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#indexedGzip(Path, Dialect)
+ */
+public class GzipRecordIndex implements CsvRecordAccess<String[]> {
+
+	/**
+	 * default number of inflated bytes between checkpoints
+	 */
+	public static final int SPAN = 1 << 24;
+
+	/**
+	 * suffix of an index saved next to the file
+	 */
+	public static final String SUFFIX = ".gzidx";
+
+	private static final int MAGIC = 0x46435347; // FCSG
+	private static final int VERSION = 1;
+
+	private static final int ID1 = 0x1f;
+	private static final int ID2 = 0x8b;
+	private static final int DEFLATE = 8;
+
+	private static final int FHCRC = 0x2;
+	private static final int FEXTRA = 0x4;
+	private static final int FNAME = 0x8;
+	private static final int FCOMMENT = 0x10;
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * @param bit    where the block begins, counted from the first block
+	 * @param out    bytes inflated before the block
+	 * @param record first record that begins at or after the checkpoint
+	 * @param skip   bytes from the checkpoint till the record begins
+	 * @param window bytes inflated right before the block
+	 */
+	private record Checkpoint(long bit, long out, long record, long skip, byte[] window) {}
+
+	private final Path path;
+	private final Dialect dialect;
+	private final long size;
+	private final long modified;
+	private final long dataStart;
+	private final long count;
+	private final List<Checkpoint> checkpoints;
+
+	private GzipRecordIndex(Path path, Dialect dialect, long size, long modified, long dataStart, long count, List<Checkpoint> checkpoints) {
+		this.path = path;
+		this.dialect = dialect;
+		this.size = size;
+		this.modified = modified;
+		this.dataStart = dataStart;
+		this.count = count;
+		this.checkpoints = checkpoints;
+	}
+
+	/**
+	 * loads the index saved next to the file, or builds one with the default
+	 * span and saves it there, if there's none, or it's stale
+	 *
+	 * @param path    the gzip file
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return the index
+	 * @throws IOException if either file could not be read, or the index could
+	 *                     not be saved
+	 */
+	public static GzipRecordIndex of(@NonNull Path path, @NonNull Dialect dialect) throws IOException {
+		Path sidecar = sidecar(path);
+
+		Optional<GzipRecordIndex> saved = load(path, dialect, sidecar);
+		if( saved.isPresent() ) {
+			return saved.get();
+		}
+
+		GzipRecordIndex index = build(path, dialect, SPAN);
+		index.save(sidecar);
+
+		return index;
+	}
+
+	/**
+	 * @param path the gzip file
+	 * @return where its index is saved by default, i.e. next to it, with
+	 *         {@link #SUFFIX}
+	 */
+	public static Path sidecar(@NonNull Path path) {
+		return path.resolveSibling(path.getFileName() + SUFFIX);
+	}
+
+	/**
+	 * inflates the whole file once, taking a checkpoint about every {@code span}
+	 * inflated bytes, and counting records
+	 *
+	 * @param path    the gzip file, of a single member
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @param span    inflated bytes between checkpoints
+	 * @return the index
+	 * @throws IOException if the file could not be read, or is not a single
+	 *                     member gzip file
+	 */
+	public static GzipRecordIndex build(@NonNull Path path, @NonNull Dialect dialect, int span) throws IOException {
+		failIf(span < 1, "span must be positive");
+
+		try (InputStream input = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)) {
+			final long modified = Files.getLastModifiedTime(path).toMillis();
+			final long dataStart = skipHeader(input);
+
+			Builder builder = new Builder(new RecordBoundaries(dialect));
+			BlockInflater inflater = new BlockInflater(input, builder::write);
+
+			long next = 0;
+			while( inflater.hasNextBlock() ) {
+				if( inflater.position() >= next ) {
+					inflater.flush();
+					builder.checkpoint(inflater.bitPosition(), inflater.position(), inflater.window());
+					next = inflater.position() + span;
+				}
+
+				inflater.nextBlock();
+			}
+
+			inflater.flush();
+
+			boolean intact = inflater.readInt() == (int) builder.crc.getValue()
+					&& inflater.readInt() == (int) inflater.position();
+			if( !intact ) {
+				throw new ZipException("gzip member failed its checksum");
+			}
+
+			if( !inflater.atEnd() ) {
+				throw new ZipException("only a single member gzip file can be indexed");
+			}
+
+			return new GzipRecordIndex(path, dialect, Files.size(path), modified, dataStart, builder.count, builder.checkpoints);
+		}
+	}
+
+	/**
+	 * loads a saved index of the file
+	 *
+	 * @param path    the gzip file
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @param index   where the index was saved
+	 * @return the index, or empty if there's none, the file was changed since, or
+	 *         it was built with another dialect
+	 * @throws IOException if either file could not be read
+	 * @throws CsvFormatException if the index file is not an index
+	 */
+	public static Optional<GzipRecordIndex> load(@NonNull Path path, @NonNull Dialect dialect, @NonNull Path index) throws IOException {
+		if( Files.notExists(index) ) {
+			return Optional.empty();
+		}
+
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+			failIf(input.readInt() != MAGIC, () -> "not a gzip record index: " + index, CsvFormatException::new);
+			if( input.readInt() != VERSION ) {
+				return Optional.empty();
+			}
+
+			long size = input.readLong();
+			long modified = input.readLong();
+			Dialect indexed = new Dialect(input.readChar(), input.readChar(), input.readChar());
+
+			boolean stale = size != Files.size(path)
+					|| modified != Files.getLastModifiedTime(path).toMillis()
+					|| !indexed.equals(dialect);
+			if( stale ) {
+				return Optional.empty();
+			}
+
+			long dataStart = input.readLong();
+			long count = input.readLong();
+
+			List<Checkpoint> checkpoints = new ArrayList<>();
+			for (int remaining = input.readInt(); remaining > 0; remaining--) {
+				long bit = input.readLong();
+				long out = input.readLong();
+				long record = input.readLong();
+				long skip = input.readLong();
+
+				byte[] window = new byte[input.readInt()];
+				byte[] deflated = new byte[input.readInt()];
+				input.readFully(deflated);
+
+				checkpoints.add(new Checkpoint(bit, out, record, skip, inflate(deflated, window)));
+			}
+
+			return Optional.of(new GzipRecordIndex(path, dialect, size, modified, dataStart, count, checkpoints));
+		}
+	}
+
+	/**
+	 * saves the index, to be loaded back as long as the file is not changed
+	 *
+	 * @param index where to save the index, replaced if exists
+	 * @throws IOException if the index could not be written
+	 */
+	public void save(@NonNull Path index) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(index)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(size);
+			output.writeLong(modified);
+			output.writeChar(dialect.delimiter());
+			output.writeChar(dialect.quote());
+			output.writeChar(dialect.escape());
+			output.writeLong(dataStart);
+			output.writeLong(count);
+
+			output.writeInt(checkpoints.size());
+			for (Checkpoint checkpoint : checkpoints) {
+				output.writeLong(checkpoint.bit());
+				output.writeLong(checkpoint.out());
+				output.writeLong(checkpoint.record());
+				output.writeLong(checkpoint.skip());
+
+				byte[] deflated = deflate(checkpoint.window());
+				output.writeInt(checkpoint.window().length);
+				output.writeInt(deflated.length);
+				output.write(deflated);
+			}
+		}
+	}
+
+	@Override
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public String[] get(long index) {
+		checkIndex(index, count);
+
+		try (Stream<String[]> record = range(index, index + 1)) {
+			return record.findFirst()
+					.orElseThrow(() -> new IllegalStateException("file ended before expected"));
+		}
+	}
+
+	/**
+	 * reads the records by inflating from the last checkpoint before
+	 * {@code from}, and skipping those before it
+	 * <p>
+	 * The returned stream holds the file open, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 */
+	@Override
+	public Stream<String[]> range(long from, long to) {
+		checkFromToIndex(from, to, count);
+		if( from == to ) {
+			return Stream.empty();
+		}
+
+		Checkpoint checkpoint = checkpoint(from);
+
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+			try {
+				channel.position(dataStart + (checkpoint.bit() >>> 3));
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+
+			InputStream inflated = inflated(Channels.newInputStream(channel), checkpoint);
+			Reader reader = new InputStreamReader(inflated, UTF_8);
+			try {
+				inflated.skipNBytes(checkpoint.skip());
+			} catch (IOException | RuntimeException e) {
+				reader.close();
+				throw e;
+			}
+
+			return StreamSupport.stream(new RecordSpliterator(reader, dialect), false)
+					.onClose(() -> close(reader))
+					.skip(from - checkpoint.record())
+					.limit(to - from);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return bytes inflated from the checkpoint on
+	 */
+	private static InputStream inflated(InputStream compressed, Checkpoint checkpoint) {
+		int skip = (int) (checkpoint.bit() & 7);
+		if( skip != 0 ) {
+			return new BlockInflaterInputStream(compressed, skip, checkpoint.out(), checkpoint.window());
+		}
+
+		Inflater inflater = new Inflater(true);
+		if( checkpoint.window().length > 0 ) {
+			inflater.setDictionary(checkpoint.window());
+		}
+
+		return new InflaterInputStream(compressed, inflater, BUFFER_SIZE) {
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					inflater.end();
+				}
+			}
+		};
+	}
+
+	/**
+	 * holds nothing open, only each range does
+	 */
+	@Override
+	public void close() {
+		// nothing to close
+	}
+
+	/**
+	 * @return the last checkpoint before the record
+	 */
+	private Checkpoint checkpoint(long record) {
+		int low = 0;
+		int high = checkpoints.size() - 1;
+		while( low < high ) {
+			int middle = (low + high + 1) >>> 1;
+			if( checkpoints.get(middle).record() <= record ) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		return checkpoints.get(low);
+	}
+
+	/**
+	 * @return length of the header skipped
+	 */
+	private static long skipHeader(InputStream input) throws IOException {
+		DataInputStream header = new DataInputStream(input);
+
+		boolean gzip = header.readUnsignedByte() == ID1
+				&& header.readUnsignedByte() == ID2
+				&& header.readUnsignedByte() == DEFLATE;
+		if( !gzip ) {
+			throw new ZipException("not in gzip format");
+		}
+
+		final int flags = header.readUnsignedByte();
+		header.skipNBytes(6);
+		long length = 10;
+
+		if( (flags & FEXTRA) != 0 ) {
+			int extra = Short.reverseBytes(header.readShort()) & 0xFFFF;
+			header.skipNBytes(extra);
+			length += 2 + extra;
+		}
+
+		if( (flags & FNAME) != 0 ) {
+			do length++; while( header.readByte() != 0 );
+		}
+
+		if( (flags & FCOMMENT) != 0 ) {
+			do length++; while( header.readByte() != 0 );
+		}
+
+		if( (flags & FHCRC) != 0 ) {
+			header.skipNBytes(2);
+			length += 2;
+		}
+
+		return length;
+	}
+
+	private static byte[] deflate(byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+
+			byte[] deflated = new byte[bytes.length + 64];
+			int length = 0;
+			while( !deflater.finished() ) {
+				if( length == deflated.length ) {
+					deflated = Arrays.copyOf(deflated, length << 1);
+				}
+
+				length += deflater.deflate(deflated, length, deflated.length - length);
+			}
+
+			return Arrays.copyOf(deflated, length);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] inflate(byte[] deflated, byte[] into) throws ZipException {
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(deflated);
+
+			int length = 0;
+			while( length < into.length ) {
+				int read = inflater.inflate(into, length, into.length - length);
+				if( read == 0 && (inflater.finished() || inflater.needsInput()) ) {
+					throw new ZipException("corrupt index window");
+				}
+
+				length += read;
+			}
+
+			return into;
+		} catch (DataFormatException e) {
+			throw new ZipException(e.getMessage());
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static void close(Reader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * counts records of the inflated bytes, and completes each checkpoint once
+	 * the first record after it begins
+	 */
+	private static class Builder {
+
+		private final RecordBoundaries boundaries;
+		private final CRC32 crc = new CRC32();
+		private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+		private long base;
+		private long count;
+		private int state = RecordBoundaries.START;
+		private boolean pending = true;
+
+		/**
+		 * taken, yet waiting for a record to begin
+		 */
+		private Checkpoint awaiting;
+
+		Builder(RecordBoundaries boundaries) {
+			this.boundaries = boundaries;
+		}
+
+		void checkpoint(long bit, long out, byte[] window) {
+			// a record longer than the span already has the checkpoint before it
+			if( awaiting == null ) {
+				awaiting = new Checkpoint(bit, out, -1, -1, window);
+			}
+		}
+
+		void write(byte[] bytes, int from, int to) {
+			crc.update(bytes, from, to - from);
+
+			for (int index = from; index < to; index++) {
+				byte value = bytes[index];
+
+				// a record begins at any byte after a line break, but the \n of \r\n
+				if( pending && !(state == RecordBoundaries.CARRIAGE && value == '\n') ) {
+					if( awaiting != null ) {
+						long begins = base + index - from;
+						checkpoints.add(new Checkpoint(awaiting.bit(), awaiting.out(), count, begins - awaiting.out(), awaiting.window()));
+						awaiting = null;
+					}
+
+					count++;
+					pending = false;
+				}
+
+				pending |= boundaries.endsRecord(state, value);
+				state = boundaries.next(state, value);
+			}
+
+			base += to - from;
+		}
+
+	}
+
+	/**
+	 * inflates through {@link BlockInflater} a block at a time, as it's read
+	 */
+	private static class BlockInflaterInputStream extends InputStream {
+
+		private final InputStream compressed;
+		private final BlockInflater inflater;
+
+		/**
+		 * bytes of the last block inflated, grown to the largest block
+		 */
+		private byte[] inflated = new byte[BUFFER_SIZE];
+		private int position;
+		private int limit;
+
+		BlockInflaterInputStream(InputStream compressed, int skip, long position, byte[] window) {
+			this.compressed = compressed;
+			this.inflater = new BlockInflater(compressed, skip, position, window, this::append);
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if( length == 0 ) {
+				return 0;
+			}
+
+			while( position == limit ) {
+				if( !inflater.hasNextBlock() ) {
+					return -1;
+				}
+
+				position = limit = 0;
+				inflater.nextBlock();
+				inflater.flush();
+			}
+
+			int read = Math.min(length, limit - position);
+			System.arraycopy(inflated, position, bytes, offset, read);
+			position += read;
+
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			compressed.close();
+		}
+
+		private void append(byte[] bytes, int from, int to) {
+			if( limit + to - from > inflated.length ) {
+				inflated = Arrays.copyOf(inflated, Math.max(inflated.length << 1, limit + to - from));
+			}
+
+			System.arraycopy(bytes, from, inflated, limit, to - from);
+			limit += to - from;
+		}
+
+	}
+
+}
@@ -0,0 +1,254 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.Utf8Record;
+
+import lombok.NonNull;
+
+/**
+ * Splits a memory-mapped file into byte ranges, so records can be parsed by
+ * many threads at once, while still being reported in order.
+ * <p>
+ * A range may start anywhere, even within a quoted column. To know whether it
+ * does, each range is first scanned by {@link RecordBoundaries} in parallel,
+ * speculatively, once assuming it starts outside quotes and once assuming
+ * within. Every range start is nudged forward onto a byte that can't change the
+ * state, so these two are the only possibilities. The true state at each range
+ * start is then resolved in order from the beginning of the file, which only
+ * costs a lookup per range.
+ * </p>
+ * <p>
+ * Knowing the state, each range skips to its first record boundary, and parses
+ * every record that begins within it using a {@link RecordScanner}, the last of
+ * them possibly running into the next range.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#parallel(Path, Dialect)
+ */
+public class MappedChunkSpliterator implements Spliterator<Utf8Record> {
+
+	/**
+	 * ranges smaller than this aren't worth a thread
+	 */
+	public static final int MIN_CHUNK = 1 << 20;
+
+	/**
+	 * ranges are kept this small, so that a mapping of up to
+	 * {@link Integer#MAX_VALUE} bytes leaves room for the last record to run past
+	 */
+	public static final int MAX_CHUNK = 1 << 30;
+
+	/**
+	 * a byte range of the file, and the mapping it is parsed from
+	 *
+	 * @param window  mapping that covers the range and whatever follows it
+	 * @param base    file offset of index 0 of the window
+	 * @param start   index in the window where the range starts
+	 * @param end     index in the window where the range ends
+	 * @param last    if the window reaches the end of file
+	 */
+	private record Chunk(ByteBuffer window, long base, int start, int end, boolean last) {}
+
+	private final Dialect dialect;
+	private final RecordBoundaries boundaries;
+	private final Chunk[] chunks;
+	private final int[] states;
+
+	/**
+	 * chunks yet to be traversed, from inclusive, to exclusive
+	 */
+	private int from, to;
+
+	private Chunk current;
+	private RecordScanner scanner;
+
+	private MappedChunkSpliterator(Dialect dialect, RecordBoundaries boundaries, Chunk[] chunks, int[] states, int from, int to) {
+		this.dialect = dialect;
+		this.boundaries = boundaries;
+		this.chunks = chunks;
+		this.states = states;
+		this.from = from;
+		this.to = to;
+	}
+
+	/**
+	 * maps the file, splits it into ranges and resolves the quote state at the
+	 * start of each range
+	 *
+	 * @param path        the file
+	 * @param dialect     structural characters, must all be {@code ASCII}
+	 * @param parallelism number of ranges to aim for, fewer if the file is small
+	 * @return the spliterator over all records of the file
+	 * @throws IOException if the file cannot be read or mapped
+	 */
+	public static MappedChunkSpliterator of(@NonNull Path path, @NonNull Dialect dialect, int parallelism) throws IOException {
+		failIf(parallelism < 1, "parallelism must be positive");
+		RecordBoundaries boundaries = new RecordBoundaries(dialect);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long chunkSize = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, (size + parallelism - 1) / parallelism));
+
+			// mapping stays valid even after the channel is closed
+			ByteBuffer whole = size <= Integer.MAX_VALUE ? channel.map(READ_ONLY, 0, size) : null;
+
+			List<Chunk> chunks = new ArrayList<>();
+			long start = 0;
+			while( start < size ) {
+				ByteBuffer window = whole != null ? whole : channel.map(READ_ONLY, start, Math.min(Integer.MAX_VALUE, size - start));
+				long base = whole != null ? 0 : start;
+
+				long end = nudge(boundaries, window, base, start + chunkSize, size);
+				chunks.add(new Chunk(window, base, (int) (start - base), (int) (end - base), base + window.limit() == size));
+				start = end;
+			}
+
+			Chunk[] resolved = chunks.toArray(Chunk[]::new);
+			return new MappedChunkSpliterator(dialect, boundaries, resolved, resolve(boundaries, resolved), 0, resolved.length);
+		}
+	}
+
+	/**
+	 * moves a range end forward onto a byte right after a plain byte, so the
+	 * state there is either unquoted or quoted, nothing in between
+	 */
+	private static long nudge(RecordBoundaries boundaries, ByteBuffer window, long base, long end, long size) {
+		long limit = base + window.limit();
+		while( end < size && end < limit && !boundaries.isPlain(window.get((int) (end - base - 1))) ) {
+			end++;
+		}
+
+		return Math.min(end, size);
+	}
+
+	/**
+	 * scans every range twice in parallel, then resolves the state at each range
+	 * start from the first one onwards
+	 */
+	private static int[] resolve(RecordBoundaries boundaries, Chunk[] chunks) {
+		int[] unquoted = new int[chunks.length];
+		int[] quoted = new int[chunks.length];
+
+		IntStream.range(0, chunks.length).parallel().forEach(index -> {
+			Chunk chunk = chunks[index];
+			int initial = index == 0 ? RecordBoundaries.START : RecordBoundaries.UNQUOTED;
+
+			unquoted[index] = boundaries.scan(chunk.window(), chunk.start(), chunk.end(), initial);
+			quoted[index] = index == 0 ? unquoted[index]
+					: boundaries.scan(chunk.window(), chunk.start(), chunk.end(), RecordBoundaries.QUOTED);
+		});
+
+		int[] states = new int[chunks.length];
+		for (int index = 1; index < chunks.length; index++) {
+			states[index] = RecordBoundaries.isQuoted(states[index - 1]) ? quoted[index - 1] : unquoted[index - 1];
+		}
+
+		return states;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Utf8Record> action) {
+		while( true ) {
+			if( scanner != null && scanner.position() < current.end() && scanner.hasNext() ) {
+				action.accept(next());
+				return true;
+			}
+
+			if( from >= to ) {
+				return false;
+			}
+
+			open(from++);
+		}
+	}
+
+	/**
+	 * splits off the first half of the chunks yet to be traversed, along with
+	 * the chunk being traversed if any, as its records come before them
+	 */
+	@Override
+	public Spliterator<Utf8Record> trySplit() {
+		int remaining = to - from;
+		if( remaining < 2 ) {
+			return null;
+		}
+
+		int middle = from + remaining / 2;
+		MappedChunkSpliterator prefix = new MappedChunkSpliterator(dialect, boundaries, chunks, states, from, middle);
+		from = middle;
+
+		prefix.current = current;
+		prefix.scanner = scanner;
+		current = null;
+		scanner = null;
+
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		long bytes = 0;
+		for (int index = from; index < to; index++) {
+			bytes += chunks[index].end() - chunks[index].start();
+		}
+
+		if( current != null && scanner != null ) {
+			bytes += Math.max(0, current.end() - scanner.position());
+		}
+
+		// roughly, a record per 128 bytes
+		return Math.max(1, bytes >>> 7);
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * positions the scanner on the first record that begins within the chunk
+	 */
+	private void open(int index) {
+		Chunk chunk = chunks[index];
+		int first = index == 0 ? chunk.start()
+				: boundaries.nextRecord(chunk.window(), chunk.start(), chunk.window().limit(), states[index]);
+
+		current = chunk;
+		scanner = first < 0 ? null
+				: RecordScanner.of(chunk.window(), dialect, first, chunk.window().limit(), chunk.base());
+	}
+
+	private Utf8Record next() {
+		Utf8Record record = scanner.next();
+
+		// a mapping that doesn't reach the end of file may have cut the record short
+		if( !current.last() && scanner.position() == current.window().limit() ) {
+			byte lastByte = current.window().get(scanner.position() - 1);
+			failIf(lastByte != '\n' && lastByte != '\r',
+					() -> "record at " + record.offset() + " is too large to be mapped",
+					CsvFormatException::new);
+		}
+
+		return record;
+	}
+
+}
@@ -0,0 +1,376 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.fluidapi.csv.reader.CsvReader;
+
+import lombok.NonNull;
+
+/**
+ * Inflates a gzip file of many small members, each telling its own compressed
+ * size in a {@code BC} extra field, as in {@code BGZF}, on several threads at
+ * once, and yields the bytes in order.
+ * <p>
+ * Only the headers are walked in order, to find where each member ends. The
+ * members are read and inflated in batches of about {@value #BATCH} compressed
+ * bytes, on the common fork-join pool, while at most a bounded number of
+ * batches are held ahead of the consumer. The checksum and size of each member
+ * are verified.
+ * </p>
+ * <p>
+ * A member without the size field cannot be found without inflating everything
+ * before it, hence {@link #open(Path, int)} inflates any other gzip file on a
+ * single thread, that still runs ahead of the consumer.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#gzip(Path, com.fluidapi.csv.bean.Dialect)
+ */
+public class ParallelGzipInputStream extends InputStream {
+
+	/**
+	 * compressed bytes inflated by a single task, at least a member
+	 */
+	private static final int BATCH = 1 << 20;
+
+	/**
+	 * bytes read ahead at once from a gzip file that's not {@code BGZF}
+	 */
+	private static final int CHUNK = 1 << 16;
+
+	private static final int ID1 = 0x1f;
+	private static final int ID2 = 0x8b;
+	private static final int DEFLATE = 8;
+
+	private static final int FHCRC = 0x2;
+	private static final int FEXTRA = 0x4;
+	private static final int FNAME = 0x8;
+	private static final int FCOMMENT = 0x10;
+
+	/**
+	 * fixed part of a header, and the trailer
+	 */
+	private static final int HEADER = 10;
+	private static final int TRAILER = 8;
+
+	private final FileChannel channel;
+	private final long size;
+	private final int readAhead;
+	private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+
+	/**
+	 * where the next batch begins
+	 */
+	private long offset;
+
+	private byte[] chunk = new byte[0];
+	private int position;
+
+	/**
+	 * @param channel   readable channel of a {@code BGZF} file, closed along with
+	 *                  this
+	 * @param readAhead maximum number of batches held ahead of the consumer
+	 * @throws IOException if the size cannot be read
+	 */
+	public ParallelGzipInputStream(@NonNull FileChannel channel, int readAhead) throws IOException {
+		failIf(readAhead < 1, "read ahead must be positive");
+
+		this.channel = channel;
+		this.size = channel.size();
+		this.readAhead = readAhead;
+	}
+
+	/**
+	 * opens a gzip file, to be inflated in parallel if every member tells its
+	 * size, otherwise on a single thread of its own ahead of the consumer
+	 *
+	 * @param path        the gzip file, possibly of many members
+	 * @param parallelism number of members inflated at once
+	 * @return the inflated bytes, to be closed after use
+	 * @throws IOException if the file could not be opened, or is not gzip
+	 */
+	public static InputStream open(@NonNull Path path, int parallelism) throws IOException {
+		failIf(parallelism < 1, "parallelism must be positive");
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = read(channel, 0, BATCH);
+			if( header.limit() > 0 && memberSize(header, 0) > 0 ) {
+				return new ParallelGzipInputStream(channel, 2 * parallelism);
+			}
+
+			return new ReadAheadInputStream(new GZIPInputStream(Channels.newInputStream(channel), CHUNK), CHUNK, 2 * parallelism);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		return hasRemaining() ? chunk[position++] & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if( length == 0 ) {
+			return 0;
+		}
+
+		if( !hasRemaining() ) {
+			return -1;
+		}
+
+		int read = Math.min(length, chunk.length - position);
+		System.arraycopy(chunk, position, bytes, offset, read);
+		position += read;
+
+		return read;
+	}
+
+	@Override
+	public int available() {
+		return chunk.length - position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		pending.forEach(batch -> batch.cancel(false));
+		pending.clear();
+		channel.close();
+	}
+
+	private boolean hasRemaining() throws IOException {
+		while( position == chunk.length ) {
+			schedule();
+			if( pending.isEmpty() ) {
+				return false;
+			}
+
+			try {
+				chunk = pending.poll().join();
+				position = 0;
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof UncheckedIOException cause
+					? cause.getCause()
+					: new IOException(e.getCause());
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * walks headers of the batches to come, and submits them to be inflated
+	 */
+	private void schedule() throws IOException {
+		while( pending.size() < readAhead && offset < size ) {
+			ByteBuffer batch = read(channel, offset, BATCH);
+
+			int[] members = new int[16];
+			int count = 0;
+			int end = 0;
+			long inflated = 0;
+
+			while( end < batch.limit() ) {
+				int member = memberSize(batch, end);
+				if( member == 0 || member > batch.limit() - end ) {
+					// continues in the next batch
+					break;
+				}
+
+				if( member < 0 ) {
+					throw new ZipException("gzip member without its size at " + (offset + end));
+				}
+
+				if( count == members.length ) {
+					members = Arrays.copyOf(members, count << 1);
+				}
+
+				members[count++] = end;
+				inflated += batch.getInt(end + member - 4) & 0xFFFFFFFFL;
+				end += member;
+			}
+
+			if( count == 0 ) {
+				throw new ZipException("truncated gzip member at " + offset);
+			}
+
+			failIf(inflated > Integer.MAX_VALUE - 8, "gzip batch too large to inflate", IllegalStateException::new);
+
+			final int[] starts = Arrays.copyOf(members, count + 1);
+			final int length = (int) inflated;
+			starts[count] = end;
+
+			pending.add(CompletableFuture.supplyAsync(() -> inflate(batch, starts, length), ForkJoinPool.commonPool()));
+			offset += end;
+		}
+	}
+
+	/**
+	 * inflates members of a batch one after another
+	 *
+	 * @param batch  compressed bytes
+	 * @param starts where each member begins, followed by where the last ends
+	 * @param length total inflated size
+	 * @return the inflated bytes
+	 */
+	private static byte[] inflate(ByteBuffer batch, int[] starts, int length) {
+		byte[] inflated = new byte[length];
+		int written = 0;
+
+		Inflater inflater = new Inflater(true);
+		CRC32 crc = new CRC32();
+		byte[] probe = new byte[1];
+		try {
+			for (int member = 0; member + 1 < starts.length; member++) {
+				final int start = starts[member];
+				final int end = starts[member + 1];
+				final int size = batch.getInt(end - 4);
+
+				inflater.reset();
+				inflater.setInput(batch.array(), dataStart(batch, start), end - TRAILER - dataStart(batch, start));
+
+				final int from = written;
+				final int to = written + size;
+				while( !inflater.finished() ) {
+					// once full, only probes for what's left, e.g. the final block of an empty member
+					int read = written < to
+						? inflater.inflate(inflated, written, to - written)
+						: inflater.inflate(probe);
+
+					boolean corrupt = read == 0
+						? !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())
+						: written == to;
+					if( corrupt ) {
+						throw new ZipException("corrupt gzip member");
+					}
+
+					written += read;
+				}
+
+				crc.reset();
+				crc.update(inflated, from, size);
+				if( (int) crc.getValue() != batch.getInt(end - TRAILER) ) {
+					throw new ZipException("gzip member failed its checksum");
+				}
+			}
+
+			return inflated;
+		} catch (ZipException e) {
+			throw new UncheckedIOException(e);
+		} catch (DataFormatException e) {
+			throw new UncheckedIOException(new ZipException(e.getMessage()));
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * @param buffer little endian bytes
+	 * @param start  where the member begins
+	 * @return compressed size of the member, as per its {@code BC} extra field,
+	 *         {@code -1} if it has none, or {@code 0} if the header is not
+	 *         entirely in the buffer. the member itself may not be entirely in
+	 *         the buffer
+	 * @throws ZipException if it's not a gzip member
+	 */
+	private static int memberSize(ByteBuffer buffer, int start) throws ZipException {
+		final int limit = buffer.limit();
+		if( limit - start < HEADER ) {
+			return 0;
+		}
+
+		boolean gzip = (buffer.get(start) & 0xFF) == ID1
+				&& (buffer.get(start + 1) & 0xFF) == ID2
+				&& buffer.get(start + 2) == DEFLATE;
+		if( !gzip ) {
+			throw new ZipException("not in gzip format");
+		}
+
+		if( (buffer.get(start + 3) & FEXTRA) == 0 ) {
+			return -1;
+		}
+
+		if( limit - start < HEADER + 2 ) {
+			return 0;
+		}
+
+		final int end = start + HEADER + 2 + (buffer.getShort(start + HEADER) & 0xFFFF);
+		if( end > limit ) {
+			return 0;
+		}
+
+		for (int field = start + HEADER + 2; field + 4 <= end; field += 4 + (buffer.getShort(field + 2) & 0xFFFF)) {
+			boolean bc = buffer.get(field) == 'B' && buffer.get(field + 1) == 'C' && buffer.getShort(field + 2) == 2;
+			if( bc && field + 6 <= end ) {
+				return (buffer.getShort(field + 4) & 0xFFFF) + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @param buffer little endian bytes
+	 * @param start  where the member begins
+	 * @return where its compressed data begins, after the header
+	 */
+	private static int dataStart(ByteBuffer buffer, int start) {
+		final int flags = buffer.get(start + 3);
+		int index = start + HEADER;
+
+		if( (flags & FEXTRA) != 0 ) {
+			index += 2 + (buffer.getShort(index) & 0xFFFF);
+		}
+
+		if( (flags & FNAME) != 0 ) {
+			while( buffer.get(index++) != 0 );
+		}
+
+		if( (flags & FCOMMENT) != 0 ) {
+			while( buffer.get(index++) != 0 );
+		}
+
+		if( (flags & FHCRC) != 0 ) {
+			index += 2;
+		}
+
+		return index;
+	}
+
+	/**
+	 * @return little endian heap buffer of up to the given bytes read from the
+	 *         offset
+	 */
+	private static ByteBuffer read(FileChannel channel, long offset, int bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(bytes, Math.max(0, channel.size() - offset)));
+		while( buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0 );
+
+		return buffer.flip().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+}
@@ -0,0 +1,170 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import lombok.NonNull;
+
+/**
+ * Reads another {@link InputStream} on a thread of its own, a few chunks ahead
+ * of the consumer, so that producing the bytes, e.g. inflating them, overlaps
+ * with parsing them.
+ * <p>
+ * At most the given number of chunks are held at once, after which the reading
+ * thread waits for the consumer. A failure to read is thrown to the consumer
+ * once it has consumed every chunk read before it.
+ * </p>
+ * <p>
+ * Closing it stops the reading thread, and closes the underlying stream. Not
+ * thread-safe, the same as any {@link InputStream}, though it's read on
+ * another thread.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class ReadAheadInputStream extends InputStream {
+
+	/**
+	 * marks the end of the underlying stream, either exhausted or failed
+	 */
+	private static final byte[] END = new byte[0];
+
+	private final InputStream input;
+	private final int chunkSize;
+	private final BlockingQueue<byte[]> chunks;
+	private final Thread reader;
+
+	private volatile Exception failure;
+	private volatile boolean closed;
+
+	private byte[] chunk = END;
+	private int position;
+	private boolean ended;
+
+	/**
+	 * starts reading right away
+	 *
+	 * @param input     to read from, closed along with this
+	 * @param chunkSize bytes read at once
+	 * @param readAhead maximum number of chunks held ahead of the consumer
+	 */
+	public ReadAheadInputStream(@NonNull InputStream input, int chunkSize, int readAhead) {
+		failIf(chunkSize < 1, "chunk size must be positive");
+		failIf(readAhead < 1, "read ahead must be positive");
+
+		this.input = input;
+		this.chunkSize = chunkSize;
+		this.chunks = new ArrayBlockingQueue<>(readAhead);
+
+		this.reader = new Thread(this::readAhead, "fluid-csv-read-ahead");
+		this.reader.setDaemon(true);
+		this.reader.start();
+	}
+
+	@Override
+	public int read() throws IOException {
+		return hasRemaining() ? chunk[position++] & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if( length == 0 ) {
+			return 0;
+		}
+
+		if( !hasRemaining() ) {
+			return -1;
+		}
+
+		int read = Math.min(length, chunk.length - position);
+		System.arraycopy(chunk, position, bytes, offset, read);
+		position += read;
+
+		return read;
+	}
+
+	@Override
+	public int available() {
+		return chunk.length - position;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if( closed ) {
+			return;
+		}
+
+		closed = true;
+		reader.interrupt();
+		chunks.clear();
+
+		try {
+			reader.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			input.close();
+		}
+	}
+
+	private boolean hasRemaining() throws IOException {
+		if( closed ) {
+			throw new IOException("stream closed");
+		}
+
+		while( position == chunk.length ) {
+			if( ended ) {
+				return false;
+			}
+
+			try {
+				chunk = chunks.take();
+				position = 0;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException("interrupted while reading ahead", e);
+			}
+
+			if( chunk == END ) {
+				ended = true;
+				if( failure != null ) {
+					throw new IOException(failure.getMessage(), failure);
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private void readAhead() {
+		try {
+			while( !closed ) {
+				byte[] next = new byte[chunkSize];
+				int read = input.readNBytes(next, 0, chunkSize);
+				if( read == 0 ) {
+					break;
+				}
+
+				chunks.put(read < chunkSize ? Arrays.copyOf(next, read) : next);
+			}
+		} catch (InterruptedException e) {
+			// closed
+			return;
+		} catch (IOException | RuntimeException e) {
+			failure = e;
+		}
+
+		try {
+			chunks.put(END);
+		} catch (InterruptedException e) {
+			// closed
+		}
+	}
+
+}
@@ -0,0 +1,282 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.nio.ByteBuffer;
+
+import com.fluidapi.csv.bean.Dialect;
+
+import lombok.NonNull;
+
+/**
+ * Finds where records begin in raw bytes, by tracking quotes and escapes as a
+ * finite state machine, without extracting any column.
+ * <p>
+ * Every transition is looked up in a table of {@code states x 256} entries
+ * built once, so each byte costs a single array access. The states are
+ * </p>
+ * <ul>
+ * <li>{@link #START} - at the start of a field</li>
+ * <li>{@link #UNQUOTED} - within an unquoted field</li>
+ * <li>{@link #QUOTED} - within quotes</li>
+ * <li>{@link #ESCAPED} - right after an escape character within quotes</li>
+ * <li>{@link #CLOSED} - right after a closing quote, or the first of a doubled
+ * quote</li>
+ * <li>{@link #CARRIAGE} - right after a {@code \r} ending a record, so that a
+ * following {@code \n} doesn't end another</li>
+ * </ul>
+ * <p>
+ * Malformed content, e.g. text after a closing quote, is treated leniently as
+ * unquoted content, leaving it to the parser to report.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class RecordBoundaries {
+
+	public static final int START = 0;
+	public static final int UNQUOTED = 1;
+	public static final int QUOTED = 2;
+	public static final int ESCAPED = 3;
+	public static final int CLOSED = 4;
+	public static final int CARRIAGE = 5;
+
+	private static final int STATES = 6;
+
+	/**
+	 * set in a transition, alongside the next state, when the byte ends a record
+	 */
+	static final int BOUNDARY = 0x8;
+	static final int STATE = 0x7;
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGHS = 0x8080808080808080L;
+
+	private final Dialect dialect;
+	private final byte[] transitions;
+
+	/**
+	 * structural characters repeated over every byte of a {@code long}
+	 */
+	private final long delimiters, quotes, escapes;
+
+	public RecordBoundaries(@NonNull Dialect dialect) {
+		failIf(!Utf8Scanner.isAscii(dialect), "dialect must consist of ascii characters to scan utf-8 bytes");
+
+		this.dialect = dialect;
+		this.transitions = new byte[STATES << 8];
+
+		for (int state = 0; state < STATES; state++) {
+			for (int value = 0; value < 256; value++) {
+				transitions[(state << 8) | value] = (byte) transition(state, (char) value);
+			}
+		}
+
+		this.delimiters = ONES * dialect.delimiter();
+		this.quotes = ONES * dialect.quote();
+		this.escapes = ONES * dialect.escape();
+	}
+
+	/**
+	 * @param state a state
+	 * @return if the state is within quotes, i.e. a line break would be content
+	 */
+	public static boolean isQuoted(int state) {
+		return state == QUOTED || state == ESCAPED;
+	}
+
+	/**
+	 * @param value a byte
+	 * @return if the byte cannot change the state between quoted and not, nor end
+	 *         a field or a record. after such a byte, the state can only be
+	 *         {@link #UNQUOTED} or {@link #QUOTED}
+	 */
+	public boolean isPlain(byte value) {
+		return value != dialect.delimiter()
+			&& value != dialect.quote()
+			&& value != dialect.escape()
+			&& value != '\n'
+			&& value != '\r';
+	}
+
+	/**
+	 * @param state the state before the byte
+	 * @param value the byte
+	 * @return the state after the byte
+	 */
+	public int next(int state, byte value) {
+		return transitions[(state << 8) | (value & 0xFF)] & STATE;
+	}
+
+	/**
+	 * @param state the state before the byte
+	 * @param value the byte
+	 * @return if the byte is a line break that ends a record
+	 */
+	public boolean endsRecord(int state, byte value) {
+		return (transitions[(state << 8) | (value & 0xFF)] & BOUNDARY) != 0;
+	}
+
+	/**
+	 * @param state the state before the byte
+	 * @param value the byte
+	 * @return the state after the byte, along with {@link #BOUNDARY} if the byte
+	 *         ends a record, i.e. both at the cost of a single lookup
+	 */
+	int transition(int state, byte value) {
+		return transitions[(state << 8) | (value & 0xFF)];
+	}
+
+	/**
+	 * runs the bytes through the state machine
+	 *
+	 * @param buffer bytes to scan, read by absolute index
+	 * @param from   index to start from, inclusive
+	 * @param to     index to stop at, exclusive
+	 * @param state  the state at {@code from}
+	 * @return the state at {@code to}
+	 */
+	public int scan(ByteBuffer buffer, int from, int to, int state) {
+		for (int index = from; index < to; index++) {
+			state = transitions[(state << 8) | (buffer.get(index) & 0xFF)] & STATE;
+		}
+
+		return state;
+	}
+
+	/**
+	 * skips 8 bytes at a time while none of them could change the state, i.e. no
+	 * delimiter or line break while {@link #UNQUOTED}, and no quote or escape
+	 * while {@link #QUOTED}. Each 8 bytes are tested at once, as a {@code long}.
+	 *
+	 * @param buffer bytes to skip, read by absolute index
+	 * @param from   index to start from, inclusive
+	 * @param to     index to stop at, exclusive
+	 * @param state  the state at {@code from}
+	 * @return index of the first 8 bytes that may change the state, or of the
+	 *         last few bytes, with the state unchanged
+	 */
+	public int skipPlain(ByteBuffer buffer, int from, int to, int state) {
+		if( state == UNQUOTED ) {
+			while( from + Long.BYTES <= to ) {
+				long word = buffer.getLong(from);
+				if( has(word, delimiters) || has(word, ONES * '\n') || has(word, ONES * '\r') ) {
+					break;
+				}
+				from += Long.BYTES;
+			}
+		} else if( state == QUOTED ) {
+			while( from + Long.BYTES <= to ) {
+				long word = buffer.getLong(from);
+				if( has(word, quotes) || has(word, escapes) ) {
+					break;
+				}
+				from += Long.BYTES;
+			}
+		}
+
+		return from;
+	}
+
+	/**
+	 * @return if any byte of the word is the byte repeated in the pattern
+	 */
+	private static boolean has(long word, long pattern) {
+		long matched = word ^ pattern;
+		return ((matched - ONES) & ~matched & HIGHS) != 0;
+	}
+
+	/**
+	 * counts line breaks that end a record, treating {@code \r\n} as one
+	 *
+	 * @param buffer bytes to scan, read by absolute index
+	 * @param from   index to start from, inclusive
+	 * @param to     index to stop at, exclusive
+	 * @param state  the state at {@code from}
+	 * @return number of record ending line breaks
+	 */
+	public long count(ByteBuffer buffer, int from, int to, int state) {
+		long count = 0;
+		for (int index = from; index < to; index++) {
+			index = skipPlain(buffer, index, to, state);
+			if( index == to ) {
+				break;
+			}
+
+			int transition = transitions[(state << 8) | (buffer.get(index) & 0xFF)];
+
+			count += (transition & BOUNDARY) >>> 3;
+			state = transition & STATE;
+		}
+
+		return count;
+	}
+
+	/**
+	 * finds where the next record begins
+	 *
+	 * @param buffer bytes to scan, read by absolute index
+	 * @param from   index to start from, inclusive
+	 * @param limit  index where the bytes end
+	 * @param state  the state at {@code from}
+	 * @return index right after the first record ending line break, or
+	 *         {@code -1} if there's none before the limit
+	 */
+	public int nextRecord(ByteBuffer buffer, int from, int limit, int state) {
+		for (int index = from; index < limit; index++) {
+			byte value = buffer.get(index);
+			int transition = transitions[(state << 8) | (value & 0xFF)];
+
+			if( (transition & BOUNDARY) != 0 ) {
+				// \r\n is a single line break
+				return value == '\r' && index + 1 < limit && buffer.get(index + 1) == '\n'
+						? index + 2
+						: index + 1;
+			}
+
+			state = transition & STATE;
+		}
+
+		return -1;
+	}
+
+	private int transition(int state, char value) {
+		final boolean lineBreak = value == '\n' || value == '\r';
+		final int afterLineBreak = BOUNDARY | (value == '\r' ? CARRIAGE : START);
+
+		switch (state) {
+		case QUOTED:
+			if( value == dialect.quote() ) return CLOSED;
+			if( value == dialect.escape() ) return ESCAPED;
+			return QUOTED;
+
+		case ESCAPED:
+			return QUOTED;
+
+		case CLOSED:
+			// a second quote is content when quotes are escaped by doubling them
+			if( value == dialect.quote() ) return dialect.isDoubledQuote() ? QUOTED : UNQUOTED;
+			break;
+
+		case CARRIAGE:
+			// \r\n is a single line break
+			if( value == '\n' ) return START;
+			if( value == dialect.quote() ) return QUOTED;
+			break;
+
+		case START:
+			if( value == dialect.quote() ) return QUOTED;
+			break;
+
+		default:
+			break;
+		}
+
+		// outside quotes
+		if( value == dialect.delimiter() ) return START;
+		if( lineBreak ) return afterLineBreak;
+		return UNQUOTED;
+	}
+
+}
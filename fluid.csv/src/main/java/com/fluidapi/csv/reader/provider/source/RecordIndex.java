@@ -0,0 +1,333 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.checkFromToIndex;
+import static java.util.Objects.checkIndex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRecordAccess;
+
+import lombok.NonNull;
+
+/**
+ * A sparse index of a delimited csv file in {@code UTF-8}, holding the byte
+ * offset of every {@code stride}-th record, so that record {@code N} is read by
+ * seeking to the nearest indexed record before it, and skipping at most
+ * {@code stride - 1} records from there.
+ * <p>
+ * The index is built by a single quote-aware pass over the raw bytes with
+ * {@link RecordBoundaries}, hence a quoted column may contain line breaks. It
+ * may be saved next to the file and loaded back, as long as the file is
+ * neither changed, nor read with a different dialect.
+ * </p>
+ * <p>
+ * Each range opens the file on its own, and closes it when its stream is
+ * closed, hence ranges may be read from many threads at once, and there's
+ * nothing held open by the index itself.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#indexed(Path, Dialect)
+ */
+public class RecordIndex implements CsvRecordAccess<String[]> {
+
+	/**
+	 * default number of records between indexed offsets
+	 */
+	public static final int STRIDE = 1 << 16;
+
+	/**
+	 * suffix of an index saved next to the file
+	 */
+	public static final String SUFFIX = ".idx";
+
+	private static final int MAGIC = 0x46435349; // FCSI
+	private static final int VERSION = 1;
+
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final Path path;
+	private final Dialect dialect;
+	private final long size;
+	private final long modified;
+	private final int stride;
+	private final long count;
+	private final long[] offsets;
+
+	private RecordIndex(Path path, Dialect dialect, long size, long modified, int stride, long count, long[] offsets) {
+		this.path = path;
+		this.dialect = dialect;
+		this.size = size;
+		this.modified = modified;
+		this.stride = stride;
+		this.count = count;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * loads the index saved next to the file, or builds one with the default
+	 * stride and saves it there, if there's none, or it's stale
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @return the index
+	 * @throws IOException if either file could not be read, or the index could
+	 *                     not be saved
+	 */
+	public static RecordIndex of(@NonNull Path path, @NonNull Dialect dialect) throws IOException {
+		Path sidecar = sidecar(path);
+
+		Optional<RecordIndex> saved = load(path, dialect, sidecar);
+		if( saved.isPresent() ) {
+			return saved.get();
+		}
+
+		RecordIndex index = build(path, dialect, STRIDE);
+		index.save(sidecar);
+
+		return index;
+	}
+
+	/**
+	 * @param path the csv file
+	 * @return where its index is saved by default, i.e. next to it, with
+	 *         {@link #SUFFIX}
+	 */
+	public static Path sidecar(@NonNull Path path) {
+		return path.resolveSibling(path.getFileName() + SUFFIX);
+	}
+
+	/**
+	 * scans the whole file once, noting where every {@code stride}-th record
+	 * begins
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by, must all be
+	 *                {@code ASCII} characters
+	 * @param stride  number of records between indexed offsets
+	 * @return the index
+	 * @throws IOException if the file could not be read
+	 */
+	public static RecordIndex build(@NonNull Path path, @NonNull Dialect dialect, int stride) throws IOException {
+		failIf(stride < 1, "stride must be positive");
+
+		RecordBoundaries boundaries = new RecordBoundaries(dialect);
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long modified = Files.getLastModifiedTime(path).toMillis();
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+			long[] offsets = new long[16];
+			int marks = 0;
+			long count = 0;
+
+			long base = 0;
+			int state = RecordBoundaries.START;
+			boolean pending = true;
+
+			while( channel.read(buffer.clear()) >= 0 ) {
+				final int limit = buffer.position();
+
+				for (int index = 0; index < limit; index++) {
+					byte value = buffer.get(index);
+
+					// a record begins at any byte after a line break, but the \n of \r\n
+					if( pending && !(state == RecordBoundaries.CARRIAGE && value == '\n') ) {
+						if( count % stride == 0 ) {
+							if( marks == offsets.length ) {
+								offsets = Arrays.copyOf(offsets, marks << 1);
+							}
+
+							offsets[marks++] = base + index;
+						}
+
+						count++;
+						pending = false;
+					}
+
+					pending |= boundaries.endsRecord(state, value);
+					state = boundaries.next(state, value);
+				}
+
+				base += limit;
+			}
+
+			return new RecordIndex(path, dialect, base, modified, stride, count, Arrays.copyOf(offsets, marks));
+		}
+	}
+
+	/**
+	 * loads a saved index of the file
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode to split by
+	 * @param index   where the index was saved
+	 * @return the index, or empty if there's none, the file was changed since, or
+	 *         it was built with another dialect
+	 * @throws IOException if either file could not be read
+	 * @throws CsvFormatException if the index file is not an index
+	 */
+	public static Optional<RecordIndex> load(@NonNull Path path, @NonNull Dialect dialect, @NonNull Path index) throws IOException {
+		if( Files.notExists(index) ) {
+			return Optional.empty();
+		}
+
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+			failIf(input.readInt() != MAGIC, () -> "not a record index: " + index, CsvFormatException::new);
+			if( input.readInt() != VERSION ) {
+				return Optional.empty();
+			}
+
+			long size = input.readLong();
+			long modified = input.readLong();
+			Dialect indexed = new Dialect(input.readChar(), input.readChar(), input.readChar());
+
+			boolean stale = size != Files.size(path)
+					|| modified != Files.getLastModifiedTime(path).toMillis()
+					|| !indexed.equals(dialect);
+			if( stale ) {
+				return Optional.empty();
+			}
+
+			int stride = input.readInt();
+			long count = input.readLong();
+			long[] offsets = new long[input.readInt()];
+			for (int mark = 0; mark < offsets.length; mark++) {
+				offsets[mark] = input.readLong();
+			}
+
+			return Optional.of(new RecordIndex(path, dialect, size, modified, stride, count, offsets));
+		}
+	}
+
+	/**
+	 * saves the index, to be loaded back as long as the file is not changed
+	 *
+	 * @param index where to save the index, replaced if exists
+	 * @throws IOException if the index could not be written
+	 */
+	public void save(@NonNull Path index) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(index)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(size);
+			output.writeLong(modified);
+			output.writeChar(dialect.delimiter());
+			output.writeChar(dialect.quote());
+			output.writeChar(dialect.escape());
+			output.writeInt(stride);
+			output.writeLong(count);
+			output.writeInt(offsets.length);
+			for (long offset : offsets) {
+				output.writeLong(offset);
+			}
+		}
+	}
+
+	/**
+	 * @return number of records between indexed offsets
+	 */
+	public int stride() {
+		return stride;
+	}
+
+	/**
+	 * @param index 0-based record number
+	 * @return byte offset where the record begins, if indexed, otherwise where the
+	 *         nearest indexed record before it begins
+	 */
+	public long offset(long index) {
+		checkIndex(index, count);
+		return offsets[(int) (index / stride)];
+	}
+
+	@Override
+	public long count() {
+		return count;
+	}
+
+	@Override
+	public String[] get(long index) {
+		checkIndex(index, count);
+
+		try (Stream<String[]> record = range(index, index + 1)) {
+			return record.findFirst()
+					.orElseThrow(() -> new IllegalStateException("file ended before expected"));
+		}
+	}
+
+	/**
+	 * reads the records by seeking to the nearest indexed record, and skipping
+	 * those before {@code from}
+	 * <p>
+	 * The returned stream holds the file open, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 */
+	@Override
+	public Stream<String[]> range(long from, long to) {
+		checkFromToIndex(from, to, count);
+		if( from == to ) {
+			return Stream.empty();
+		}
+
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+			try {
+				channel.position(offset(from));
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+
+			Reader reader = new InputStreamReader(Channels.newInputStream(channel), UTF_8);
+			return StreamSupport.stream(new RecordSpliterator(reader, dialect), false)
+					.onClose(() -> close(reader))
+					.skip(from % stride)
+					.limit(to - from);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * holds nothing open, only each range does
+	 */
+	@Override
+	public void close() {
+		// nothing to close
+	}
+
+	private static void close(Reader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
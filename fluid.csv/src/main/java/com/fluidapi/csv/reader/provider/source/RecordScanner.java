@@ -0,0 +1,64 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import java.nio.ByteBuffer;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.Utf8Record;
+
+/**
+ * Scans raw {@code UTF-8} bytes record by record, producing
+ * {@link Utf8Record}s.
+ * <p>
+ * {@link #of(ByteBuffer, Dialect, int, int, long)} picks the fastest scanner
+ * available, all of them producing identical records and failures.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see Utf8Scanner
+ * @see StructuralScanner
+ */
+public interface RecordScanner {
+
+	/**
+	 * @return index where the next record starts
+	 */
+	int position();
+
+	/**
+	 * @return if there's another record before the end of bytes
+	 */
+	boolean hasNext();
+
+	/**
+	 * scans the next record, and moves past its line break
+	 *
+	 * @return the next record, or {@code null} if exhausted
+	 * @throws CsvFormatException if a quote doesn't end, or is followed by
+	 *                            anything but a delimiter or line break
+	 */
+	Utf8Record next();
+
+	/**
+	 * uses {@link StructuralScanner} when {@link BlockMasks#vectorized(Dialect)}
+	 * is available and quotes are escaped by doubling them, otherwise
+	 * {@link Utf8Scanner}
+	 *
+	 * @param buffer   bytes to scan
+	 * @param dialect  structural characters, must all be {@code ASCII}
+	 * @param position index of the first record in the buffer
+	 * @param limit    index where the bytes end
+	 * @param base     offset of the buffer's index 0 within the whole input
+	 * @return the scanner positioned at the first record
+	 */
+	static RecordScanner of(ByteBuffer buffer, Dialect dialect, int position, int limit, long base) {
+		BlockMasks masks = dialect.isDoubledQuote() ? BlockMasks.vectorized(dialect) : null;
+
+		return masks != null
+				? new StructuralScanner(buffer, dialect, masks, position, limit, base)
+				: new Utf8Scanner(buffer, dialect, position, limit, base);
+	}
+
+}
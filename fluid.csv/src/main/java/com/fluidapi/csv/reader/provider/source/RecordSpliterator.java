@@ -0,0 +1,293 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+
+import lombok.NonNull;
+
+/**
+ * Reads whole records from a {@link Reader}, where a quoted column may contain
+ * line breaks, as described by RFC 4180.
+ * <p>
+ * Characters are read in bulk into a single reusable buffer, and columns are
+ * extracted straight out of it, so no intermediate {@link String} per line is
+ * ever created. When a column runs past the end of the buffer, only the partial
+ * column is moved to the beginning before reading further. The buffer only
+ * grows if a single column is larger than the buffer itself.
+ * </p>
+ * <p>
+ * Escape sequences within quotes are resolved in place while scanning. A line
+ * break outside quotes, either {@code \n}, {@code \r\n} or {@code \r}, ends the
+ * record, an empty line being a record of a single empty column.
+ * </p>
+ * <p>
+ * Maintains state, hence not thread-safe, the same as any
+ * {@link java.util.Spliterator}.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#records(Reader, Dialect)
+ */
+public class RecordSpliterator extends Spliterators.AbstractSpliterator<String[]> {
+
+	/**
+	 * default buffer size, in characters
+	 */
+	public static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * initial guess of columns, later adjusted to the last record
+	 */
+	private static final int INITIAL_COLUMNS = 16;
+
+	private final Reader reader;
+	private final char delimiter;
+	private final char quote;
+	private final char escape;
+	private final boolean doubled;
+
+	private char[] buffer;
+	private int limit;
+	private boolean eof;
+
+	/**
+	 * cursor, i.e. next character to read
+	 */
+	private int position;
+
+	/**
+	 * first character of the current field, retained on refill
+	 */
+	private int fieldStart;
+
+	/**
+	 * where the next unescaped character of the current field is written
+	 */
+	private int write;
+
+	private int expectedColumns = INITIAL_COLUMNS;
+
+	public RecordSpliterator(@NonNull Reader reader, @NonNull Dialect dialect) {
+		this(reader, dialect, BUFFER_SIZE);
+	}
+
+	public RecordSpliterator(@NonNull Reader reader, @NonNull Dialect dialect, int bufferSize) {
+		super(Long.MAX_VALUE, ORDERED | NONNULL);
+		failIf(bufferSize < 2, "buffer too small");
+
+		this.reader = reader;
+		this.delimiter = dialect.delimiter();
+		this.quote = dialect.quote();
+		this.escape = dialect.escape();
+		this.doubled = dialect.isDoubledQuote();
+		this.buffer = new char[bufferSize];
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super String[]> action) {
+		String[] record = next();
+		if( record == null ) {
+			return false;
+		}
+
+		action.accept(record);
+		return true;
+	}
+
+	/**
+	 * @return the next record, or {@code null} if exhausted
+	 */
+	protected String[] next() {
+		String[] columns = new String[expectedColumns];
+		int count = 0;
+
+		boolean more = true;
+		while( more ) {
+			fieldStart = position;
+
+			// nothing more to read, either a clean end, or a last empty field after delimiter
+			if( !available(1) ) {
+				if( count == 0 ) {
+					return null;
+				}
+
+				columns = add(columns, count++, "");
+				break;
+			}
+
+			String column;
+			if( buffer[position] == quote ) {
+				column = quoted();
+			} else {
+				column = unquoted();
+			}
+
+			columns = add(columns, count++, column);
+			more = endOfField();
+		}
+
+		expectedColumns = count;
+		return count == columns.length ? columns : Arrays.copyOf(columns, count);
+	}
+
+	/**
+	 * reads till the next delimiter or line break, without consuming it
+	 */
+	private String unquoted() {
+		while( true ) {
+			if( position == limit && !available(1) ) {
+				break;
+			}
+
+			char character = buffer[position];
+			if( character == delimiter || character == '\n' || character == '\r' ) {
+				break;
+			}
+
+			position++;
+		}
+
+		return new String(buffer, fieldStart, position - fieldStart);
+	}
+
+	/**
+	 * reads till the closing quote, and consumes it
+	 */
+	private String quoted() {
+		write = ++position;
+
+		while( true ) {
+			failIf(!available(1), "quote didn't end", CsvFormatException::new);
+			char character = buffer[position];
+
+			if( character == quote ) {
+				if( doubled && available(2) && buffer[position + 1] == quote ) {
+					// doubled quote is content
+					buffer[write++] = quote;
+					position += 2;
+					continue;
+				}
+
+				// closing quote
+				String column = new String(buffer, fieldStart + 1, write - fieldStart - 1);
+				position++;
+				return column;
+			}
+
+			if( character == escape && !doubled ) {
+				// whatever follows the escape is content
+				failIf(!available(2), "quote didn't end", CsvFormatException::new);
+				buffer[write++] = buffer[position + 1];
+				position += 2;
+				continue;
+			}
+
+			buffer[write++] = character;
+			position++;
+		}
+	}
+
+	/**
+	 * consumes what ends a field
+	 *
+	 * @return {@code true} if more fields follow in the same record
+	 */
+	private boolean endOfField() {
+		fieldStart = position;
+		if( !available(1) ) {
+			return false;
+		}
+
+		char character = buffer[position++];
+		if( character == delimiter ) {
+			return true;
+		}
+
+		if( character == '\r' ) {
+			// \r\n is a single line break
+			fieldStart = position;
+			if( available(1) && buffer[position] == '\n' ) {
+				position++;
+			}
+			return false;
+		}
+
+		failIf(character != '\n',
+				() -> "unexpected character after closing quote: " + character,
+				CsvFormatException::new);
+		return false;
+	}
+
+	/**
+	 * makes sure at least given number of characters are readable from
+	 * {@link #position}, reading more if required
+	 *
+	 * @param count number of characters required
+	 * @return if as many characters are available
+	 */
+	private boolean available(int count) {
+		while( position + count > limit ) {
+			if( eof ) {
+				return false;
+			}
+
+			fill();
+		}
+
+		return true;
+	}
+
+	/**
+	 * moves the current field to the beginning, and reads as much as the buffer
+	 * can take after it
+	 */
+	private void fill() {
+		int shift = fieldStart;
+		int retained = limit - shift;
+
+		if( shift > 0 ) {
+			System.arraycopy(buffer, shift, buffer, 0, retained);
+		} else if( retained == buffer.length ) {
+			// a single field larger than the buffer
+			buffer = Arrays.copyOf(buffer, buffer.length << 1);
+		}
+
+		limit = retained;
+		position -= shift;
+		write -= shift;
+		fieldStart = 0;
+
+		try {
+			int read = reader.read(buffer, limit, buffer.length - limit);
+			if( read < 0 ) {
+				eof = true;
+			} else {
+				limit += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String[] add(String[] columns, int index, String column) {
+		if( index == columns.length ) {
+			columns = Arrays.copyOf(columns, Math.max(1, index << 1));
+		}
+
+		columns[index] = column;
+		return columns;
+	}
+
+}
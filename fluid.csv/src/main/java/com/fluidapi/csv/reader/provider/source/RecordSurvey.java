@@ -0,0 +1,287 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.reader.CsvLineSplitter;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.provider.linesplitter.SplitDialect;
+
+import lombok.NonNull;
+
+/**
+ * Surveys a delimited csv file in {@code UTF-8} over its raw bytes, i.e.
+ * counts, skips, or samples records, without decoding or splitting any record
+ * but those asked for.
+ * <p>
+ * Records are found by a quote-aware walk with {@link RecordBoundaries}, hence
+ * a quoted column may contain line breaks. Only sampled records are decoded and
+ * split, by {@link SplitDialect}.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#count(Path, Dialect)
+ */
+public final class RecordSurvey {
+
+	/**
+	 * bytes read to estimate the number of records
+	 */
+	public static final int ESTIMATE_SAMPLE = 1 << 20;
+
+	private RecordSurvey() {
+		// static utility
+	}
+
+	/**
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode, must all be {@code ASCII}
+	 *                characters
+	 * @return exact number of records, including a last record without a line
+	 *         break
+	 * @throws IOException if the file could not be read
+	 */
+	public static long count(@NonNull Path path, @NonNull Dialect dialect) throws IOException {
+		try (RecordWalker records = walk(path, dialect)) {
+			return records.count();
+		}
+	}
+
+	/**
+	 * estimates the number of records by the size of the file, and the average
+	 * size of records within its first {@value #ESTIMATE_SAMPLE} bytes, or tells
+	 * exactly if the file is no larger
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode, must all be {@code ASCII}
+	 *                characters
+	 * @return estimated number of records
+	 * @throws IOException if the file could not be read
+	 */
+	public static long estimate(@NonNull Path path, @NonNull Dialect dialect) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			RecordWalker records = new RecordWalker(channel, dialect);
+			final long size = channel.size();
+
+			long count = 0, sampled = 0;
+			while( records.next() ) {
+				if( count > 0 && records.end() >= ESTIMATE_SAMPLE && records.end() < size ) {
+					return Math.round((double) size * count / sampled);
+				}
+
+				count++;
+				sampled = records.nextStart();
+			}
+
+			return count;
+		}
+	}
+
+	/**
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode, must all be {@code ASCII}
+	 *                characters
+	 * @param records number of records to skip
+	 * @return byte offset where the record after those skipped begins, or the
+	 *         size of the file if there aren't as many
+	 * @throws IOException if the file could not be read
+	 */
+	public static long offsetOf(@NonNull Path path, @NonNull Dialect dialect, long records) throws IOException {
+		failIf(records < 0, "negative records");
+
+		try (RecordWalker walker = walk(path, dialect)) {
+			for (long skipped = 0; skipped < records; skipped++) {
+				if( !walker.next() ) {
+					break;
+				}
+			}
+
+			return walker.nextStart();
+		}
+	}
+
+	/**
+	 * reads the records after skipping some, finding where to begin without
+	 * decoding the records skipped
+	 * <p>
+	 * The returned stream holds the file open, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode, must all be {@code ASCII}
+	 *                characters
+	 * @param records number of records to skip
+	 * @return {@link Stream} of the rest of the records, each record as columns
+	 * @throws IOException if the file could not be read
+	 */
+	public static Stream<String[]> skip(@NonNull Path path, @NonNull Dialect dialect, long records) throws IOException {
+		long offset = offsetOf(path, dialect, records);
+
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			channel.position(offset);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+
+		Reader reader = new InputStreamReader(Channels.newInputStream(channel), UTF_8);
+		return StreamSupport.stream(new RecordSpliterator(reader, dialect), false)
+				.onClose(() -> close(reader));
+	}
+
+	/**
+	 * samples each record independently with the same probability, skipping a
+	 * random number of records between samples, so that the random generator is
+	 * drawn only once per sample
+	 * <p>
+	 * The returned stream holds the file open, hence should be closed, preferably
+	 * using try-with-resources.
+	 * </p>
+	 *
+	 * @param path        the csv file
+	 * @param dialect     delimiter, quote and escape mode, must all be
+	 *                    {@code ASCII} characters
+	 * @param probability of each record being sampled, e.g. {@code 0.01} for
+	 *                    about 1%
+	 * @param seed        of the random generator, the same seed sampling the same
+	 *                    records
+	 * @return {@link Stream} of sampled records in file order, each record as
+	 *         columns
+	 * @throws IOException if the file could not be opened
+	 */
+	public static Stream<String[]> sample(@NonNull Path path, @NonNull Dialect dialect, double probability, long seed) throws IOException {
+		failIf(!(probability > 0 && probability <= 1), "probability must be within (0, 1]");
+
+		RecordWalker records = walk(path, dialect);
+		CsvLineSplitter splitter = new SplitDialect(dialect);
+		Random random = new Random(seed);
+		double log = Math.log1p(-probability);
+
+		Spliterator<String[]> sampled = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super String[]> action) {
+				try {
+					// records skipped before the next sample, geometrically distributed
+					long skip = probability == 1 ? 0 : (long) Math.floor(Math.log(1 - random.nextDouble()) / log);
+					for (long skipped = 0; skipped < skip; skipped++) {
+						if( !records.next() ) {
+							return false;
+						}
+					}
+					if( !records.next() ) {
+						return false;
+					}
+
+					action.accept(splitter.split(new String(records.bytes(), UTF_8)));
+					return true;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+
+		return StreamSupport.stream(sampled, false)
+				.onClose(() -> close(records));
+	}
+
+	/**
+	 * samples a fixed number of records uniformly, in a single walk over the
+	 * file, by reservoir sampling, i.e. Li's algorithm L, drawing the random
+	 * generator only as the reservoir changes. Only where each sampled record
+	 * is, is held until the walk ends, and those alone are read again and split.
+	 *
+	 * @param path    the csv file
+	 * @param dialect delimiter, quote and escape mode, must all be {@code ASCII}
+	 *                characters
+	 * @param size    number of records to sample
+	 * @param seed    of the random generator, the same seed sampling the same
+	 *                records
+	 * @return sampled records in file order, all records if there aren't more
+	 *         than the size
+	 * @throws IOException if the file could not be read
+	 */
+	public static List<String[]> reservoir(@NonNull Path path, @NonNull Dialect dialect, int size, long seed) throws IOException {
+		failIf(size < 1, "size must be positive");
+
+		long[] starts = new long[size], ends = new long[size];
+		int filled = 0;
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			RecordWalker records = new RecordWalker(channel, dialect);
+			Random random = new Random(seed);
+
+			while( filled < size && records.next() ) {
+				starts[filled] = records.start();
+				ends[filled++] = records.end();
+			}
+
+			double weight = Math.exp(Math.log(random.nextDouble()) / size);
+			walk: while( filled == size ) {
+				long skip = (long) Math.floor(Math.log(random.nextDouble()) / Math.log1p(-weight));
+				for (long skipped = 0; skipped <= skip; skipped++) {
+					if( !records.next() ) {
+						break walk;
+					}
+				}
+
+				int replaced = random.nextInt(size);
+				starts[replaced] = records.start();
+				ends[replaced] = records.end();
+				weight *= Math.exp(Math.log(random.nextDouble()) / size);
+			}
+
+			Integer[] order = new Integer[filled];
+			Arrays.setAll(order, index -> index);
+			Arrays.sort(order, (one, other) -> Long.compare(starts[one], starts[other]));
+
+			CsvLineSplitter splitter = new SplitDialect(dialect);
+			List<String[]> sampled = new ArrayList<>(filled);
+			for (int index : order) {
+				byte[] bytes = new byte[Math.toIntExact(ends[index] - starts[index])];
+				RecordWalker.read(channel, starts[index], bytes);
+				sampled.add(splitter.split(new String(bytes, UTF_8)));
+			}
+
+			return sampled;
+		}
+	}
+
+	private static RecordWalker walk(Path path, Dialect dialect) throws IOException {
+		return new RecordWalker(FileChannel.open(path, StandardOpenOption.READ), dialect);
+	}
+
+	private static void close(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
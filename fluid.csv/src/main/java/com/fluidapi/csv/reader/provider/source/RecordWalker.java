@@ -0,0 +1,228 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.fluidapi.csv.bean.Dialect;
+
+/**
+ * Walks a file record by record over raw bytes, telling where each record
+ * begins and ends, without decoding or splitting any of it.
+ * <p>
+ * Bytes are read in bulk into a direct buffer, and run through
+ * {@link RecordBoundaries}, skipping plain bytes 8 at a time, with a single
+ * table lookup for every other byte.
+ * </p>
+ * <p>
+ * Maintains state, hence not thread-safe.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class RecordWalker implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final FileChannel channel;
+	private final RecordBoundaries boundaries;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+	/**
+	 * file offset of the first byte in the buffer
+	 */
+	private long base;
+	private int index;
+	private int state = RecordBoundaries.START;
+
+	private long start;
+	private long end;
+
+	/**
+	 * where the record after the current one begins
+	 */
+	private long next;
+
+	/**
+	 * @param channel the file, read by absolute position, and closed along
+	 * @param dialect delimiter, quote and escape mode to walk by, must all be
+	 *                {@code ASCII} characters
+	 */
+	RecordWalker(FileChannel channel, Dialect dialect) {
+		this.channel = channel;
+		this.boundaries = new RecordBoundaries(dialect);
+
+		buffer.limit(0);
+	}
+
+	/**
+	 * advances to the next record
+	 *
+	 * @return if there was one
+	 * @throws IOException if the file could not be read
+	 */
+	boolean next() throws IOException {
+		start = next;
+
+		while( true ) {
+			if( index == buffer.limit() && !refill() ) {
+				// the last record may not end with a line break
+				if( start < base + index ) {
+					end = next = base + index;
+					return true;
+				}
+				return false;
+			}
+
+			index = boundaries.skipPlain(buffer, index, buffer.limit(), state);
+			while( index < buffer.limit() ) {
+				byte value = buffer.get(index++);
+
+				if( state == RecordBoundaries.CARRIAGE && value == '\n' ) {
+					// \r\n is a single line break
+					start = next = base + index;
+					state = RecordBoundaries.START;
+					continue;
+				}
+
+				int transition = boundaries.transition(state, value);
+				state = transition & RecordBoundaries.STATE;
+
+				if( (transition & RecordBoundaries.BOUNDARY) != 0 ) {
+					end = base + index - 1;
+					next = base + index;
+					return true;
+				}
+
+				if( state == RecordBoundaries.UNQUOTED || state == RecordBoundaries.QUOTED ) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * counts the records left, faster than advancing through each, as nothing is
+	 * tracked but the state
+	 *
+	 * @return number of records left, including a last one without a line break
+	 * @throws IOException if the file could not be read
+	 */
+	long count() throws IOException {
+		long count = 0;
+		boolean content = false;
+
+		while( index < buffer.limit() || refill() ) {
+			final int limit = buffer.limit();
+			int at = index;
+
+			while( at < limit ) {
+				at = boundaries.skipPlain(buffer, at, limit, state);
+				for (; at < limit; at++) {
+					byte value = buffer.get(at);
+					int transition = boundaries.transition(state, value);
+
+					// anything but the \n of a \r\n is content of the next record
+					content = (transition & RecordBoundaries.BOUNDARY) == 0
+							&& !(state == RecordBoundaries.CARRIAGE && value == '\n');
+					count += (transition & RecordBoundaries.BOUNDARY) >>> 3;
+					state = transition & RecordBoundaries.STATE;
+
+					if( state == RecordBoundaries.UNQUOTED || state == RecordBoundaries.QUOTED ) {
+						at++;
+						content = true;
+						break;
+					}
+				}
+			}
+
+			index = limit;
+		}
+
+		start = next = end = base + index;
+		return content ? count + 1 : count;
+	}
+
+	/**
+	 * @return file offset where the current record begins
+	 */
+	long start() {
+		return start;
+	}
+
+	/**
+	 * @return file offset where the current record ends, exclusive of the line
+	 *         break
+	 */
+	long end() {
+		return end;
+	}
+
+	/**
+	 * @return file offset where the record after the current one begins, past
+	 *         the whole of a {@code \r\n}
+	 * @throws IOException if the file could not be read
+	 */
+	long nextStart() throws IOException {
+		if( state == RecordBoundaries.CARRIAGE && (index < buffer.limit() || refill())
+				&& buffer.get(index) == '\n' ) {
+			index++;
+			next++;
+			state = RecordBoundaries.START;
+		}
+
+		return next;
+	}
+
+	/**
+	 * @return bytes of the current record, excluding the line break
+	 * @throws IOException if the file could not be read
+	 */
+	byte[] bytes() throws IOException {
+		byte[] bytes = new byte[Math.toIntExact(end - start)];
+		if( start >= base ) {
+			// still in the buffer
+			buffer.get((int) (start - base), bytes);
+		} else {
+			read(channel, start, bytes);
+		}
+
+		return bytes;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * reads bytes at a position of the file, as many as the array holds
+	 */
+	static void read(FileChannel channel, long position, byte[] bytes) throws IOException {
+		ByteBuffer into = ByteBuffer.wrap(bytes);
+		while( into.hasRemaining() ) {
+			if( channel.read(into, position + into.position()) < 0 ) {
+				throw new EOFException("file ended before expected");
+			}
+		}
+	}
+
+	private boolean refill() throws IOException {
+		base += buffer.limit();
+		index = 0;
+		buffer.clear();
+
+		while( buffer.hasRemaining() ) {
+			if( channel.read(buffer, base + buffer.position()) < 0 ) {
+				break;
+			}
+		}
+
+		buffer.flip();
+		return buffer.hasRemaining();
+	}
+
+}
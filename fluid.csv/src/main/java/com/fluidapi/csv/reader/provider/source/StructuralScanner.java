@@ -0,0 +1,290 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.reader.provider.source.BlockMasks.BLOCK;
+import static com.fluidapi.csv.reader.provider.source.BlockMasks.NON_ASCII;
+import static com.fluidapi.csv.reader.provider.source.BlockMasks.QUOTES;
+import static com.fluidapi.csv.reader.provider.source.BlockMasks.SEPARATORS;
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.reader.Utf8Record;
+
+import lombok.NonNull;
+
+/**
+ * Scans raw {@code UTF-8} bytes a block of {@value BlockMasks#BLOCK} bytes at
+ * a time, in two stages, as done by {@code simdjson}
+ * <ol>
+ * <li>{@link BlockMasks} classifies every byte of the block into bitmasks, and
+ * the bytes within quotes are found by a prefix-XOR of the quote mask, i.e.
+ * each bit is flipped by every quote before it, carried over from block to
+ * block. Separators within quotes are then masked off.</li>
+ * <li>columns end at the remaining separators, found by counting trailing
+ * zeros, which skips over all content in between without looking at it.</li>
+ * </ol>
+ * <p>
+ * A doubled quote flips the state twice, hence only quotes escaped by doubling
+ * them are supported. Anything irregular, like a quote within an unquoted
+ * column or text after a closing quote, is left to {@link Utf8Scanner} for that
+ * record, so records and failures are identical either way.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class StructuralScanner implements RecordScanner {
+
+	/**
+	 * initial guess of columns, later adjusted to the last record
+	 */
+	private static final int INITIAL_COLUMNS = 16;
+
+	private final ByteBuffer buffer;
+	private final Dialect dialect;
+	private final BlockMasks masks;
+	private final byte delimiter;
+	private final byte quote;
+	private final int limit;
+	private final long base;
+
+	private int position;
+	private int expectedColumns = INITIAL_COLUMNS;
+
+	/**
+	 * index of the first byte of the current block
+	 */
+	private int block;
+
+	/**
+	 * current block masks, with separators within quotes already masked off
+	 */
+	private long quotes, separators, nonAscii;
+
+	/**
+	 * all bits set if the next block begins within quotes
+	 */
+	private long carry;
+
+	/**
+	 * accumulated while looking for the end of a column
+	 */
+	private int columnQuotes;
+	private long columnNonAscii;
+
+	private final long[] raw = new long[3];
+
+	/**
+	 * @param buffer   bytes to scan
+	 * @param dialect  structural characters, must all be {@code ASCII}, quotes
+	 *                 escaped by doubling them
+	 * @param masks    classifies blocks of bytes for the dialect
+	 * @param position index of the first record in the buffer
+	 * @param limit    index where the bytes end
+	 * @param base     offset of the buffer's index 0 within the whole input
+	 */
+	public StructuralScanner(@NonNull ByteBuffer buffer, @NonNull Dialect dialect, @NonNull BlockMasks masks, int position, int limit, long base) {
+		failIf(!Utf8Scanner.isAscii(dialect), "dialect must consist of ascii characters to scan utf-8 bytes");
+		failIf(!dialect.isDoubledQuote(), "quotes must be escaped by doubling them");
+		failIf(position < 0 || position > limit || limit > buffer.capacity(), "invalid bounds");
+
+		this.buffer = buffer;
+		this.dialect = dialect;
+		this.masks = masks;
+		this.delimiter = (byte) dialect.delimiter();
+		this.quote = (byte) dialect.quote();
+		this.position = position;
+		this.limit = limit;
+		this.base = base;
+
+		load(position, 0);
+	}
+
+	@Override
+	public int position() {
+		return position;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < limit;
+	}
+
+	@Override
+	public Utf8Record next() {
+		if( !hasNext() ) {
+			return null;
+		}
+
+		final int recordStart = position;
+		int[] bounds = new int[expectedColumns << 1];
+		byte[] kinds = new byte[expectedColumns];
+		int count = 0;
+
+		int at = position;
+		while( true ) {
+			final int end = nextSeparator(at);
+			int start = at, contentEnd = end;
+			byte kind = 0;
+
+			if( columnQuotes != 0 ) {
+				// a balanced, quoted column, with nothing after the closing quote
+				boolean regular = buffer.get(start) == quote
+						&& (columnQuotes & 1) == 0
+						&& end - start >= 2
+						&& buffer.get(end - 1) == quote;
+
+				if( regular ) {
+					start++;
+					contentEnd--;
+
+					if( columnQuotes > 2 ) {
+						regular = isDoubled(start, contentEnd);
+						kind |= Utf8Record.ESCAPED;
+					}
+				}
+
+				if( !regular ) {
+					return irregular(recordStart);
+				}
+			}
+
+			if( columnNonAscii == 0 ) {
+				kind |= Utf8Record.ASCII;
+			}
+
+			if( count == kinds.length ) {
+				bounds = Arrays.copyOf(bounds, count << 2);
+				kinds = Arrays.copyOf(kinds, count << 1);
+			}
+
+			bounds[2 * count] = start;
+			bounds[2 * count + 1] = contentEnd;
+			kinds[count++] = kind;
+
+			if( end >= limit ) {
+				at = end;
+				break;
+			}
+
+			byte character = buffer.get(end);
+			at = end + 1;
+
+			if( character == delimiter ) {
+				continue;
+			}
+
+			// \r\n is a single line break
+			if( character == '\r' && at < limit && buffer.get(at) == '\n' ) {
+				at++;
+			}
+
+			break;
+		}
+
+		position = at;
+		expectedColumns = count;
+
+		return new Utf8Record(buffer, dialect, base + recordStart, bounds, kinds, count);
+	}
+
+	/**
+	 * finds the next separator outside quotes, while counting quotes and
+	 * gathering multi-byte bytes on the way
+	 *
+	 * @param from index to look from, never behind the current block
+	 * @return index of the separator, or the limit if there's none
+	 */
+	private int nextSeparator(int from) {
+		columnQuotes = 0;
+		columnNonAscii = 0;
+
+		while( true ) {
+			while( from >= block + BLOCK && block < limit ) {
+				load(block + BLOCK, carry);
+			}
+
+			if( block >= limit ) {
+				return limit;
+			}
+
+			long range = -1L << (from - block);
+			long found = separators & range;
+			int end = found != 0 ? Long.numberOfTrailingZeros(found) : BLOCK;
+			long span = end == BLOCK ? range : range & ~(-1L << end);
+
+			columnQuotes += Long.bitCount(quotes & span);
+			columnNonAscii |= nonAscii & span;
+
+			if( found != 0 ) {
+				return block + end;
+			}
+
+			from = block + BLOCK;
+		}
+	}
+
+	/**
+	 * classifies the block starting at the index
+	 *
+	 * @param at     index of the first byte of the block
+	 * @param within all bits set if the block begins within quotes
+	 */
+	private void load(int at, long within) {
+		block = at;
+		int length = Math.min(BLOCK, limit - at);
+		if( length <= 0 ) {
+			quotes = separators = nonAscii = carry = 0;
+			return;
+		}
+
+		masks.masks(buffer, at, length, raw);
+
+		// each bit is flipped by every quote up to and including it
+		long quoted = raw[QUOTES];
+		quoted ^= quoted << 1;
+		quoted ^= quoted << 2;
+		quoted ^= quoted << 4;
+		quoted ^= quoted << 8;
+		quoted ^= quoted << 16;
+		quoted ^= quoted << 32;
+		quoted ^= within;
+
+		quotes = raw[QUOTES];
+		separators = raw[SEPARATORS] & ~quoted;
+		nonAscii = raw[NON_ASCII];
+		carry = quoted >> 63;
+	}
+
+	/**
+	 * @return if every quote in the content is doubled
+	 */
+	private boolean isDoubled(int from, int to) {
+		for (int at = from; at < to; at++) {
+			if( buffer.get(at) == quote ) {
+				if( ++at >= to || buffer.get(at) != quote ) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * scans the record one byte at a time, then resumes from the next record
+	 * with no quote carried over
+	 */
+	private Utf8Record irregular(int recordStart) {
+		Utf8Scanner scanner = new Utf8Scanner(buffer, dialect, recordStart, limit, base);
+		Utf8Record record = scanner.next();
+
+		position = scanner.position();
+		load(position, 0);
+
+		return record;
+	}
+
+}
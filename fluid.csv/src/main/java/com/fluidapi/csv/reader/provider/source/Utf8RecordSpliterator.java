@@ -0,0 +1,62 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.Utf8Record;
+
+import lombok.NonNull;
+
+/**
+ * Streams {@link Utf8Record}s out of raw {@code UTF-8} bytes, using a
+ * {@link RecordScanner}.
+ * <p>
+ * Only records that start before the given end are produced, although the last
+ * of them may run past it, till the scanner's limit. That allows splitting
+ * bytes into ranges without knowing where exactly the records end.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ *
+ * @see CsvReader#utf8(ByteBuffer, Dialect)
+ */
+public class Utf8RecordSpliterator extends Spliterators.AbstractSpliterator<Utf8Record> {
+
+	private final RecordScanner scanner;
+	private final int end;
+
+	/**
+	 * records of the whole buffer, from its position till its limit
+	 *
+	 * @param buffer  bytes to scan
+	 * @param dialect structural characters, must all be {@code ASCII}
+	 */
+	public Utf8RecordSpliterator(@NonNull ByteBuffer buffer, @NonNull Dialect dialect) {
+		this(RecordScanner.of(buffer, dialect, buffer.position(), buffer.limit(), 0), buffer.limit());
+	}
+
+	/**
+	 * @param scanner positioned at the first record
+	 * @param end     index before which a record must start to be produced
+	 */
+	public Utf8RecordSpliterator(@NonNull RecordScanner scanner, int end) {
+		super(Long.MAX_VALUE, ORDERED | NONNULL);
+		this.scanner = scanner;
+		this.end = end;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Utf8Record> action) {
+		if( scanner.position() >= end || !scanner.hasNext() ) {
+			return false;
+		}
+
+		action.accept(scanner.next());
+		return true;
+	}
+
+}
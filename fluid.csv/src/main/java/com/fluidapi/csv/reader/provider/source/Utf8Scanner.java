@@ -0,0 +1,217 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import static com.fluidapi.csv.validaton.FailCheck.failIf;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.Utf8Record;
+
+import lombok.NonNull;
+
+/**
+ * Scans raw {@code UTF-8} bytes for delimiters, quotes and line breaks, and
+ * produces {@link Utf8Record}s holding only the byte bounds of each column.
+ * <p>
+ * Since every structural character of a {@link Dialect} must be {@code ASCII},
+ * and no byte of a multi-byte {@code UTF-8} sequence is ever in the
+ * {@code ASCII} range, scanning bytes is equivalent to scanning characters, and
+ * no decoding is required to find column bounds.
+ * </p>
+ * <p>
+ * Reads the buffer by absolute index only, hence never disturbs its position or
+ * limit. Maintains state, hence one instance per thread.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public class Utf8Scanner implements RecordScanner {
+
+	/**
+	 * initial guess of columns, later adjusted to the last record
+	 */
+	private static final int INITIAL_COLUMNS = 16;
+
+	private final ByteBuffer buffer;
+	private final Dialect dialect;
+	private final byte delimiter;
+	private final byte quote;
+	private final byte escape;
+	private final boolean doubled;
+
+	/**
+	 * where the bytes end, records may not run past it
+	 */
+	private final int limit;
+
+	/**
+	 * offset of the buffer's index 0 within the whole input
+	 */
+	private final long base;
+
+	/**
+	 * start of the next record
+	 */
+	private int position;
+
+	private int expectedColumns = INITIAL_COLUMNS;
+
+	/**
+	 * @param buffer   bytes to scan, from its position till its limit
+	 * @param dialect  structural characters, must all be {@code ASCII}
+	 */
+	public Utf8Scanner(@NonNull ByteBuffer buffer, @NonNull Dialect dialect) {
+		this(buffer, dialect, buffer.position(), buffer.limit(), 0);
+	}
+
+	/**
+	 * @param buffer   bytes to scan
+	 * @param dialect  structural characters, must all be {@code ASCII}
+	 * @param position index of the first record in the buffer
+	 * @param limit    index where the bytes end
+	 * @param base     offset of the buffer's index 0 within the whole input
+	 */
+	public Utf8Scanner(@NonNull ByteBuffer buffer, @NonNull Dialect dialect, int position, int limit, long base) {
+		failIf(!isAscii(dialect), "dialect must consist of ascii characters to scan utf-8 bytes");
+		failIf(position < 0 || position > limit || limit > buffer.capacity(), "invalid bounds");
+
+		this.buffer = buffer;
+		this.dialect = dialect;
+		this.delimiter = (byte) dialect.delimiter();
+		this.quote = (byte) dialect.quote();
+		this.escape = (byte) dialect.escape();
+		this.doubled = dialect.isDoubledQuote();
+		this.position = position;
+		this.limit = limit;
+		this.base = base;
+	}
+
+	@Override
+	public int position() {
+		return position;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < limit;
+	}
+
+	@Override
+	public Utf8Record next() {
+		if( !hasNext() ) {
+			return null;
+		}
+
+		final int recordStart = position;
+		int[] bounds = new int[expectedColumns << 1];
+		byte[] kinds = new byte[expectedColumns];
+		int count = 0;
+
+		int at = position;
+		boolean more = true;
+		while( more ) {
+			int start, end, bits = 0;
+			byte kind = 0;
+
+			if( at < limit && buffer.get(at) == quote ) {
+				start = ++at;
+
+				while( true ) {
+					failIf(at >= limit, "quote didn't end", CsvFormatException::new);
+					byte character = buffer.get(at);
+
+					if( character == quote ) {
+						if( doubled && at + 1 < limit && buffer.get(at + 1) == quote ) {
+							// doubled quote is content
+							kind |= Utf8Record.ESCAPED;
+							at += 2;
+							continue;
+						}
+
+						// closing quote
+						break;
+					}
+
+					if( character == escape && !doubled ) {
+						// whatever follows the escape is content
+						failIf(at + 1 >= limit, "quote didn't end", CsvFormatException::new);
+						kind |= Utf8Record.ESCAPED;
+						bits |= buffer.get(at + 1);
+						at += 2;
+						continue;
+					}
+
+					bits |= character;
+					at++;
+				}
+
+				end = at++;
+			} else {
+				start = at;
+
+				while( at < limit ) {
+					byte character = buffer.get(at);
+					if( character == delimiter || character == '\n' || character == '\r' ) {
+						break;
+					}
+
+					bits |= character;
+					at++;
+				}
+
+				end = at;
+			}
+
+			// negative byte is a part of a multi-byte sequence
+			if( bits >= 0 ) {
+				kind |= Utf8Record.ASCII;
+			}
+
+			if( count == kinds.length ) {
+				bounds = Arrays.copyOf(bounds, count << 2);
+				kinds = Arrays.copyOf(kinds, count << 1);
+			}
+
+			bounds[2 * count] = start;
+			bounds[2 * count + 1] = end;
+			kinds[count++] = kind;
+
+			// what ends the field
+			more = false;
+			if( at < limit ) {
+				byte character = buffer.get(at++);
+
+				if( character == delimiter ) {
+					more = true;
+				} else if( character == '\r' ) {
+					// \r\n is a single line break
+					if( at < limit && buffer.get(at) == '\n' ) {
+						at++;
+					}
+				} else {
+					int unexpected = at - 1;
+					failIf(character != '\n',
+							() -> "unexpected character after closing quote at " + (base + unexpected),
+							CsvFormatException::new);
+				}
+			}
+		}
+
+		position = at;
+		expectedColumns = count;
+
+		return new Utf8Record(buffer, dialect, base + recordStart, bounds, kinds, count);
+	}
+
+	/**
+	 * @param dialect to check
+	 * @return if all structural characters of the dialect are {@code ASCII}
+	 */
+	public static boolean isAscii(Dialect dialect) {
+		return (dialect.delimiter() | dialect.quote() | dialect.escape()) < 0x80;
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.fluidapi.csv.reader.provider.source;
+
+import java.nio.ByteBuffer;
+
+import com.fluidapi.csv.bean.Dialect;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code SIMD} form of {@link BlockMasks}, that compares as many bytes at once
+ * as the widest vector the platform supports, e.g. 32 with {@code AVX2} or 64
+ * with {@code AVX-512}, and turns each comparison into a bitmask.
+ * <p>
+ * {@link VectorMask#toLong()} isn't compiled to a single instruction before
+ * {@code JDK 18}, hence masks are turned into bits arithmetically instead, see
+ * {@link #bits(VectorMask)}.
+ * </p>
+ * <p>
+ * Bytes not backed by an accessible array, e.g. direct or memory-mapped, are
+ * copied a block at a time into scratch space first, as loading a vector
+ * straight off a {@link ByteBuffer} is no longer supported from {@code JDK 20}.
+ * </p>
+ * <p>
+ * Only ever loaded through {@link BlockMasks#vectorized(Dialect)}.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class VectorMasks extends BlockMasks {
+
+	/**
+	 * the widest vector, yet no wider than a block, as with {@code SVE} it may be
+	 * far wider, nor of a width that doesn't divide it
+	 */
+	private static final VectorSpecies<Byte> SPECIES = VectorSpecies.of(byte.class, VectorShape.forBitSize(
+			Integer.highestOneBit(Math.min(ByteVector.SPECIES_PREFERRED.length(), BLOCK)) * Byte.SIZE));
+	private static final int LANES = SPECIES.length();
+	private static final ByteVector ZERO = ByteVector.zero(SPECIES);
+
+	/**
+	 * byte {@code i} of a multiplicand ends up at bit {@code 56 + i} of the product
+	 */
+	private static final long GATHER = 0x0102040810204080L;
+
+	private final long[] words = new long[LANES >>> 3];
+	private final byte[] block = new byte[BLOCK];
+
+	VectorMasks(Dialect dialect) {
+		super(dialect);
+	}
+
+	@Override
+	public void masks(ByteBuffer buffer, int from, int length, long[] into) {
+		if( length != BLOCK ) {
+			super.masks(buffer, from, length, into);
+			return;
+		}
+
+		byte[] array = block;
+		int offset = 0;
+		if( buffer.hasArray() ) {
+			array = buffer.array();
+			offset = buffer.arrayOffset() + from;
+		} else {
+			buffer.get(from, array);
+		}
+
+		long quotes = 0, separators = 0, nonAscii = 0;
+		for (int lane = 0; lane < BLOCK; lane += LANES) {
+			ByteVector bytes = ByteVector.fromArray(SPECIES, array, offset + lane);
+
+			separators |= bits(bytes.eq(delimiter)
+					.or(bytes.eq((byte) '\n'))
+					.or(bytes.eq((byte) '\r'))) << lane;
+
+			// turning a mask into bits costs more than testing it, and most blocks have neither
+			VectorMask<Byte> quoted = bytes.eq(quote);
+			if( quoted.anyTrue() ) {
+				quotes |= bits(quoted) << lane;
+			}
+
+			VectorMask<Byte> multiByte = bytes.lt((byte) 0);
+			if( multiByte.anyTrue() ) {
+				nonAscii |= bits(multiByte) << lane;
+			}
+		}
+
+		into[QUOTES] = quotes;
+		into[SEPARATORS] = separators;
+		into[NON_ASCII] = nonAscii;
+	}
+
+	/**
+	 * turns a mask into bits, by turning it into a {@code 0} or {@code 1} byte
+	 * per lane, then gathering every 8 of them into a byte with a multiplication
+	 */
+	private long bits(VectorMask<Byte> mask) {
+		long[] words = this.words;
+		ZERO.blend((byte) 1, mask)
+			.reinterpretAsLongs()
+			.lanewise(VectorOperators.MUL, GATHER)
+			.lanewise(VectorOperators.LSHR, 56)
+			.intoArray(words, 0);
+
+		long bits = 0;
+		for (int word = 0; word < words.length; word++) {
+			bits |= words[word] << (word << 3);
+		}
+
+		return bits;
+	}
+
+}
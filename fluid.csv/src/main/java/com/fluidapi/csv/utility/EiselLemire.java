@@ -0,0 +1,212 @@
+package com.fluidapi.csv.utility;
+
+import java.math.BigInteger;
+
+/**
+ * Converts a decimal {@code w * 10^q}, of up to 19 digits, to the nearest
+ * {@code double} or {@code float}, correctly rounded, by the Eisel-Lemire
+ * algorithm, i.e. a single 64 by 128 bit multiplication with a truncated power
+ * of five, as used by {@code fast_float}.
+ * <p>
+ * The 128 bit powers of five, for every exponent a {@code double} may need,
+ * are generated once with {@link BigInteger}, as {@code fast_float} generates
+ * its table.
+ * </p>
+ * <p>
+ * See Daniel Lemire, "Number Parsing at a Gigabyte per Second", and Noble
+ * Mushtak, Daniel Lemire, "Fast Number Parsing Without Fallback".
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+final class EiselLemire {
+
+	private static final int SMALLEST_POWER = -342;
+	private static final int LARGEST_DOUBLE_POWER = 308;
+	private static final int LARGEST_FLOAT_POWER = 38;
+
+	private static final int DOUBLE_MANTISSA_BITS = 52;
+	private static final int FLOAT_MANTISSA_BITS = 23;
+
+	/**
+	 * high and low 64 bits of each power of five, from the smallest, normalized
+	 * so that the highest bit is set
+	 */
+	private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+	/**
+	 * powers of ten a {@code double} holds exactly
+	 */
+	private static final double[] EXACT_POWERS = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	/**
+	 * powers of ten a {@code float} holds exactly
+	 */
+	private static final float[] EXACT_FLOAT_POWERS = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	private EiselLemire() {
+		// static utility
+	}
+
+	/**
+	 * @param w unsigned significand
+	 * @param q decimal exponent
+	 * @return bits of the nearest {@code double}, i.e. for
+	 *         {@link Double#longBitsToDouble(long)}, sign aside
+	 */
+	static long toDouble(long w, int q) {
+		return compute(w, q, DOUBLE_MANTISSA_BITS, -1023, 0x7FF, -4, 23, LARGEST_DOUBLE_POWER);
+	}
+
+	/**
+	 * @param w unsigned significand
+	 * @param q decimal exponent
+	 * @return bits of the nearest {@code float}, i.e. for
+	 *         {@link Float#intBitsToFloat(int)}, sign aside
+	 */
+	static int toFloat(long w, int q) {
+		return (int) compute(w, q, FLOAT_MANTISSA_BITS, -127, 0xFF, -17, 10, LARGEST_FLOAT_POWER);
+	}
+
+	/**
+	 * a single, hence correctly rounded, operation on two exact values, i.e.
+	 * Clinger's fast path
+	 *
+	 * @param w significand, up to {@link NumberParsing#EXACT_SIGNIFICAND}
+	 * @param q decimal exponent, within {@code [-22, 22]}
+	 * @return bits of the {@code double}, sign aside
+	 */
+	static long exactDouble(long w, int q) {
+		double value = q < 0 ? w / EXACT_POWERS[-q] : w * EXACT_POWERS[q];
+		return Double.doubleToRawLongBits(value);
+	}
+
+	/**
+	 * @param w significand, up to {@link NumberParsing#EXACT_FLOAT_SIGNIFICAND}
+	 * @param q decimal exponent, within {@code [-10, 10]}
+	 * @return bits of the {@code float}, sign aside
+	 * @see #exactDouble(long, int)
+	 */
+	static int exactFloat(long w, int q) {
+		float value = q < 0 ? w / EXACT_FLOAT_POWERS[-q] : w * EXACT_FLOAT_POWERS[q];
+		return Float.floatToRawIntBits(value);
+	}
+
+	private static long compute(long w, int q, int mantissaBits, int minimumExponent, int infinitePower,
+			int minRoundToEven, int maxRoundToEven, int largestPower) {
+		if( w == 0 || q < SMALLEST_POWER ) {
+			return 0;
+		}
+		if( q > largestPower ) {
+			return (long) infinitePower << mantissaBits;
+		}
+
+		final int leadingZeros = Long.numberOfLeadingZeros(w);
+		w <<= leadingZeros;
+
+		// w times the power of five, to as many bits as the mantissa needs
+		final int index = 2 * (q - SMALLEST_POWER);
+		long high = multiplyHigh(w, POWERS_OF_FIVE[index]);
+		long low = w * POWERS_OF_FIVE[index];
+
+		final long precision = -1L >>> (mantissaBits + 3);
+		if( (high & precision) == precision ) {
+			// the lower bits may carry over, taking in the next 64 bits of the power
+			long next = multiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+			low += next;
+			if( Long.compareUnsigned(next, low) > 0 ) {
+				high++;
+			}
+		}
+
+		final int upper = (int) (high >>> 63);
+		final int shift = upper + 64 - mantissaBits - 3;
+		long mantissa = high >>> shift;
+		int power2 = binaryExponent(q) + upper - leadingZeros - minimumExponent;
+
+		if( power2 <= 0 ) {
+			// subnormal, or zero if more than 64 bits below the least exponent
+			if( -power2 + 1 >= 64 ) {
+				return 0;
+			}
+
+			mantissa >>>= -power2 + 1;
+			mantissa += mantissa & 1;
+			mantissa >>>= 1;
+
+			// rounding up may reach the least normal
+			power2 = mantissa < (1L << mantissaBits) ? 0 : 1;
+			return mantissa | ((long) power2 << mantissaBits);
+		}
+
+		// exactly halfway between two, i.e. no bits below, rounds to even
+		if( Long.compareUnsigned(low, 1) <= 0 && q >= minRoundToEven && q <= maxRoundToEven
+				&& (mantissa & 3) == 1 && (mantissa << shift) == high ) {
+			mantissa &= ~1L;
+		}
+
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if( mantissa >= (2L << mantissaBits) ) {
+			mantissa = 1L << mantissaBits;
+			power2++;
+		}
+		mantissa &= ~(1L << mantissaBits);
+
+		if( power2 >= infinitePower ) {
+			return (long) infinitePower << mantissaBits;
+		}
+
+		return mantissa | ((long) power2 << mantissaBits);
+	}
+
+	/**
+	 * @return {@code floor(log2(10^q)) + 63}, exact within the range of powers
+	 */
+	private static int binaryExponent(int q) {
+		return (((152170 + 65536) * q) >> 16) + 63;
+	}
+
+	/**
+	 * @return high 64 bits of the unsigned 128 bit product
+	 */
+	private static long multiplyHigh(long x, long y) {
+		return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+	}
+
+	private static long[] powersOfFive() {
+		final BigInteger five = BigInteger.valueOf(5);
+		final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+		long[] powers = new long[2 * (LARGEST_DOUBLE_POWER - SMALLEST_POWER + 1)];
+		for (int q = SMALLEST_POWER; q <= LARGEST_DOUBLE_POWER; q++) {
+			BigInteger power;
+			if( q >= 0 ) {
+				// truncated to 128 bits
+				power = five.pow(q);
+				int shift = 128 - power.bitLength();
+				power = shift >= 0 ? power.shiftLeft(shift) : power.shiftRight(-shift);
+			} else {
+				// reciprocal, rounded up, to 128 bits
+				BigInteger divisor = five.pow(-q);
+				int bits = divisor.bitLength();
+				int scale = q >= -27 ? bits + 127 : 2 * bits + 128;
+				power = BigInteger.ONE.shiftLeft(scale).divide(divisor).add(BigInteger.ONE);
+				if( power.bitLength() > 128 ) {
+					power = power.shiftRight(power.bitLength() - 128);
+				}
+			}
+
+			int index = 2 * (q - SMALLEST_POWER);
+			powers[index] = power.shiftRight(64).longValue();
+			powers[index + 1] = power.and(mask).longValue();
+		}
+
+		return powers;
+	}
+
+}
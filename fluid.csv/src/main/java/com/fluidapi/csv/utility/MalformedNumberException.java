@@ -0,0 +1,24 @@
+package com.fluidapi.csv.utility;
+
+/**
+ * A text that isn't a number as expected, thrown without a stack trace, as
+ * it's always wrapped by whoever tells which column it was, and is cheap to
+ * throw on every bad row.
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+class MalformedNumberException extends NumberFormatException {
+
+	private static final long serialVersionUID = 1L;
+
+	MalformedNumberException(CharSequence text, int from, int to) {
+		super("For input string: \"" + text.subSequence(from, to) + "\"");
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
@@ -0,0 +1,417 @@
+package com.fluidapi.csv.utility;
+
+import java.math.BigDecimal;
+
+/**
+ * Parses numbers straight off a range of characters, e.g. a slice of a line,
+ * without copying it to a {@link String} or boxing the result.
+ * <p>
+ * Whitespace around the number, i.e. any character up to a space as
+ * {@link String#trim()} takes it, is ignored, and a leading {@code +} or
+ * {@code -} is allowed. A text that isn't a number throws a
+ * {@link NumberFormatException} without a stack trace.
+ * </p>
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public interface NumberParsing {
+
+	/**
+	 * digits of a {@code long} that can never overflow
+	 */
+	int SAFE_DIGITS = 18;
+
+	/**
+	 * largest integer a {@code double} holds exactly, i.e. {@code 2^53}
+	 */
+	long EXACT_SIGNIFICAND = 1L << 53;
+
+	/**
+	 * significant digits an unsigned {@code long} always holds
+	 */
+	int SIGNIFICANT_DIGITS = 19;
+
+	/**
+	 * largest integer a {@code float} holds exactly, i.e. {@code 2^24}
+	 */
+	long EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+
+	/**
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @return the number as an {@code int}
+	 * @throws NumberFormatException if not a whole number within range
+	 */
+	static int parseInt(CharSequence text, int from, int to) {
+		return parseInt(text, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @param min  least value allowed, e.g. {@link Byte#MIN_VALUE}
+	 * @param max  greatest value allowed, e.g. {@link Byte#MAX_VALUE}
+	 * @return the number as an {@code int}
+	 * @throws NumberFormatException if not a whole number within range
+	 */
+	static int parseInt(CharSequence text, int from, int to, int min, int max) {
+		long value = parseLong(text, from, to);
+		if( value < min || value > max ) {
+			throw new MalformedNumberException(text, from, to);
+		}
+		
+		return (int) value;
+	}
+
+	/**
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @return the number as a {@code long}
+	 * @throws NumberFormatException if not a whole number within range
+	 */
+	static long parseLong(CharSequence text, int from, int to) {
+		int start = skipSpace(text, from, to);
+		int end = skipSpaceBack(text, start, to);
+		if( start == end ) {
+			throw new MalformedNumberException(text, from, to);
+		}
+
+		final char sign = text.charAt(start);
+		final boolean negative = sign == '-';
+		if( (negative || sign == '+') && ++start == end ) {
+			throw new MalformedNumberException(text, from, to);
+		}
+
+		// accumulated negative, as the negative range is larger
+		long value = 0;
+		for (int at = start; at < end; at++) {
+			int digit = text.charAt(at) - '0';
+			if( digit < 0 || digit > 9 ) {
+				return text.charAt(at) < 0x80 ? malformed(text, from, to)
+					 : fallback(text, start, end, negative);
+			}
+
+			// only the digits past the safe ones may overflow
+			if( at - start >= SAFE_DIGITS
+					&& (value < Long.MIN_VALUE / 10 || value * 10 < Long.MIN_VALUE + digit) ) {
+				throw new MalformedNumberException(text, from, to);
+			}
+			value = value * 10 - digit;
+		}
+
+		if( !negative ) {
+			if( value == Long.MIN_VALUE ) {
+				throw new MalformedNumberException(text, from, to);
+			}
+			return -value;
+		}
+
+		return value;
+	}
+
+	/**
+	 * parses a decimal number, with an optional fraction and exponent, e.g.
+	 * {@code -12.5e3}, exactly as {@link Double#parseDouble(String)} would.
+	 * <p>
+	 * A number of up to {@value #SIGNIFICANT_DIGITS} significant digits is
+	 * converted without copying it, either directly, if both its digits and the
+	 * power of ten are exact as a {@code double}, being correctly rounded by a
+	 * single operation, or by {@link EiselLemire}. More digits are cut to as
+	 * many, and converted rounded both down and up, which mostly agree. Anything
+	 * else, including {@code NaN}, {@code Infinity} and hexadecimal forms, is
+	 * copied and handed to {@link Double#parseDouble(String)}.
+	 * </p>
+	 *
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @return the number as a {@code double}
+	 * @throws NumberFormatException if not a number
+	 */
+	static double parseDouble(CharSequence text, int from, int to) {
+		return Double.longBitsToDouble(parseDecimal(text, from, to, false));
+	}
+
+	/**
+	 * parses a decimal number, exactly as {@link Float#parseFloat(String)}
+	 * would, the same way as {@link #parseDouble(CharSequence, int, int)}, but
+	 * rounded once, straight to a {@code float}
+	 *
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @return the number as a {@code float}
+	 * @throws NumberFormatException if not a number
+	 */
+	static float parseFloat(CharSequence text, int from, int to) {
+		return Float.intBitsToFloat((int) parseDecimal(text, from, to, true));
+	}
+
+	/**
+	 * @return bits of the {@code double}, or of the {@code float} if single
+	 */
+	private static long parseDecimal(CharSequence text, int from, int to, boolean single) {
+		int at = skipSpace(text, from, to);
+		final int end = skipSpaceBack(text, at, to);
+		if( at == end ) {
+			throw new MalformedNumberException(text, from, to);
+		}
+
+		final char sign = text.charAt(at);
+		final boolean negative = sign == '-';
+		if( negative || sign == '+' ) {
+			at++;
+		}
+
+		// unsigned, of the leading significant digits
+		long significand = 0;
+		int digits = 0, exponent = 0;
+		boolean any = false, truncated = false;
+
+		// whole part
+		for (; at < end; at++) {
+			int digit = text.charAt(at) - '0';
+			if( digit < 0 || digit > 9 ) {
+				break;
+			}
+			any = true;
+			if( digits < SIGNIFICANT_DIGITS ) {
+				if( digits > 0 || digit != 0 ) {
+					significand = significand * 10 + digit;
+					digits++;
+				}
+			} else {
+				exponent++;
+				truncated |= digit != 0;
+			}
+		}
+
+		// fraction
+		if( at < end && text.charAt(at) == '.' ) {
+			for (at++; at < end; at++) {
+				int digit = text.charAt(at) - '0';
+				if( digit < 0 || digit > 9 ) {
+					break;
+				}
+				any = true;
+				if( digits < SIGNIFICANT_DIGITS ) {
+					if( digits > 0 || digit != 0 ) {
+						significand = significand * 10 + digit;
+						digits++;
+					}
+					exponent--;
+				} else {
+					truncated |= digit != 0;
+				}
+			}
+		}
+
+		// exponent, of a few digits, as anything larger is zero or infinite anyway
+		if( any && at < end && (text.charAt(at) | 0x20) == 'e' && end - at <= 5 ) {
+			int mark = ++at;
+			boolean negativeExponent = false;
+			if( at < end && (text.charAt(at) == '-' || text.charAt(at) == '+') ) {
+				negativeExponent = text.charAt(at++) == '-';
+			}
+
+			int explicit = 0;
+			for (; at < end; at++) {
+				int digit = text.charAt(at) - '0';
+				if( digit < 0 || digit > 9 ) {
+					break;
+				}
+				explicit = explicit * 10 + digit;
+			}
+			if( at == mark || !Character.isDigit(text.charAt(at - 1)) ) {
+				return fallbackDecimal(text, from, to, single);
+			}
+			exponent += negativeExponent ? -explicit : explicit;
+		}
+
+		if( !any || at != end ) {
+			return fallbackDecimal(text, from, to, single);
+		}
+
+		final boolean exact = !truncated && significand >= 0;
+		if( single ) {
+			int bits;
+			if( exact && significand <= EXACT_FLOAT_SIGNIFICAND && exponent >= -10 && exponent <= 10 ) {
+				bits = EiselLemire.exactFloat(significand, exponent);
+			} else {
+				bits = EiselLemire.toFloat(significand, exponent);
+				if( truncated && bits != EiselLemire.toFloat(significand + 1, exponent) ) {
+					return fallbackDecimal(text, from, to, true);
+				}
+			}
+			return negative ? bits | Integer.MIN_VALUE : bits;
+		}
+
+		long bits;
+		if( exact && significand <= EXACT_SIGNIFICAND && exponent >= -22 && exponent <= 22 ) {
+			bits = EiselLemire.exactDouble(significand, exponent);
+		} else {
+			bits = EiselLemire.toDouble(significand, exponent);
+			if( truncated && bits != EiselLemire.toDouble(significand + 1, exponent) ) {
+				return fallbackDecimal(text, from, to, false);
+			}
+		}
+		return negative ? bits | Long.MIN_VALUE : bits;
+	}
+
+	/**
+	 * parses a decimal number, with an optional fraction and exponent, to the
+	 * same value and scale as {@link BigDecimal#BigDecimal(String)} would, e.g.
+	 * {@code 1234.50} as {@code 123450} with a scale of {@code 2}.
+	 * <p>
+	 * A number of up to {@value #SAFE_DIGITS} significant digits is built from
+	 * its unscaled {@code long} and scale, without copying it or going through
+	 * {@link java.math.BigInteger}. Anything longer is copied and handed to
+	 * {@link BigDecimal#BigDecimal(String)}.
+	 * </p>
+	 *
+	 * @param text the characters
+	 * @param from start of the number, inclusive
+	 * @param to   end of the number, exclusive
+	 * @return the number as a {@link BigDecimal}
+	 * @throws NumberFormatException if not a number
+	 */
+	static BigDecimal parseBigDecimal(CharSequence text, int from, int to) {
+		int at = skipSpace(text, from, to);
+		final int end = skipSpaceBack(text, at, to);
+		if( at == end ) {
+			throw new MalformedNumberException(text, from, to);
+		}
+
+		final int start = at;
+		final char sign = text.charAt(at);
+		final boolean negative = sign == '-';
+		if( negative || sign == '+' ) {
+			at++;
+		}
+
+		// accumulated negative, as in parseLong
+		long unscaled = 0;
+		int digits = 0;
+		long scale = 0;
+		boolean any = false, point = false;
+
+		for (; at < end; at++) {
+			final char next = text.charAt(at);
+			if( next == '.' && !point ) {
+				point = true;
+				continue;
+			}
+
+			int digit = next - '0';
+			if( digit < 0 || digit > 9 ) {
+				break;
+			}
+
+			any = true;
+			if( digits > 0 || digit != 0 ) {
+				if( ++digits > SAFE_DIGITS ) {
+					return fallbackBigDecimal(text, start, end);
+				}
+				unscaled = unscaled * 10 - digit;
+			}
+			if( point ) {
+				scale++;
+			}
+		}
+
+		if( any && at < end && (text.charAt(at) | 0x20) == 'e' ) {
+			int mark = ++at;
+			boolean negativeExponent = false;
+			if( at < end && (text.charAt(at) == '-' || text.charAt(at) == '+') ) {
+				negativeExponent = text.charAt(at++) == '-';
+			}
+
+			// an exponent beyond an int is left to the JDK to tell
+			long exponent = 0;
+			for (; at < end && exponent <= Integer.MAX_VALUE; at++) {
+				int digit = text.charAt(at) - '0';
+				if( digit < 0 || digit > 9 ) {
+					break;
+				}
+				exponent = exponent * 10 + digit;
+			}
+			if( at == mark || !Character.isDigit(text.charAt(at - 1)) || exponent > Integer.MAX_VALUE ) {
+				return fallbackBigDecimal(text, start, end);
+			}
+			scale -= negativeExponent ? -exponent : exponent;
+		}
+
+		if( !any || at != end || scale != (int) scale ) {
+			return fallbackBigDecimal(text, start, end);
+		}
+
+		return BigDecimal.valueOf(negative ? unscaled : -unscaled, (int) scale);
+	}
+
+	/**
+	 * handed to the {@code JDK}, for digits other than {@code ASCII}
+	 */
+	private static long fallback(CharSequence text, int start, int end, boolean negative) {
+		try {
+			long value = Long.parseLong(text.subSequence(start, end).toString());
+			if( negative ) {
+				if( value < 0 ) {
+					throw new NumberFormatException();
+				}
+				return -value;
+			}
+			return value;
+		} catch (NumberFormatException e) {
+			throw new MalformedNumberException(text, start, end);
+		}
+	}
+
+	/**
+	 * handed to the {@code JDK}, as it's too long, or to tell what's wrong
+	 */
+	private static BigDecimal fallbackBigDecimal(CharSequence text, int from, int to) {
+		try {
+			return new BigDecimal(text.subSequence(from, to).toString());
+		} catch (NumberFormatException e) {
+			throw new MalformedNumberException(text, from, to);
+		}
+	}
+
+	private static long malformed(CharSequence text, int from, int to) {
+		throw new MalformedNumberException(text, from, to);
+	}
+
+	/**
+	 * handed to the {@code JDK}, as fast parsing doesn't apply
+	 *
+	 * @return bits of the {@code double}, or of the {@code float} if single
+	 */
+	private static long fallbackDecimal(CharSequence text, int from, int to, boolean single) {
+		try {
+			String number = text.subSequence(from, to).toString();
+			return single ? Float.floatToRawIntBits(Float.parseFloat(number))
+				 : Double.doubleToRawLongBits(Double.parseDouble(number));
+		} catch (NumberFormatException e) {
+			throw new MalformedNumberException(text, from, to);
+		}
+	}
+
+	private static int skipSpace(CharSequence text, int from, int to) {
+		while( from < to && text.charAt(from) <= ' ' ) {
+			from++;
+		}
+		return from;
+	}
+
+	private static int skipSpaceBack(CharSequence text, int from, int to) {
+		while( to > from && text.charAt(to - 1) <= ' ' ) {
+			to--;
+		}
+		return to;
+	}
+
+}
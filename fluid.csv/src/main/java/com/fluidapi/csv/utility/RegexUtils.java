@@ -0,0 +1,123 @@
+package com.fluidapi.csv.utility;
+
+import java.util.regex.Pattern;
+
+/**
+ * Utility methods to inspect regular expressions without involving the regex
+ * engine itself.
+ *
+ * @author Arindam Biswas
+ * @since 0.3
+ */
+public interface RegexUtils {
+
+	/**
+	 * characters that carry special meaning in a {@link Pattern} when used
+	 * unescaped
+	 */
+	String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+	/**
+	 * finds the plain text a regular expression would match, if the expression is
+	 * nothing more than a literal, i.e. does not contain any unescaped
+	 * metacharacter or character class.
+	 * <p>
+	 * Understands escaped metacharacters like {@code \|}, control escapes like
+	 * {@code \t} and quotations like {@code \Q...\E}, as produced by
+	 * {@link Pattern#quote(String)}
+	 * </p>
+	 *
+	 * @param regex the regular expression to inspect
+	 * @return the literal text, or {@code null} if the expression needs the regex
+	 *         engine or would match an empty text
+	 */
+	static String literalOf(String regex) {
+		if( regex == null || regex.isEmpty() ) {
+			return null;
+		}
+
+		StringBuilder literal = new StringBuilder(regex.length());
+		for (int index = 0; index < regex.length(); index++) {
+			char character = regex.charAt(index);
+
+			// plain characters are taken as is, metacharacters need the engine
+			if( character != '\\' ) {
+				if( METACHARACTERS.indexOf(character) >= 0 ) {
+					return null;
+				}
+
+				literal.append(character);
+				continue;
+			}
+
+			// dangling escape is not a valid expression anyway
+			if( ++index == regex.length() ) {
+				return null;
+			}
+
+			char escaped = regex.charAt(index);
+			if( escaped == 'Q' ) {
+				// quoted section runs till \E or till the end
+				int end = regex.indexOf("\\E", index + 1);
+				end = end < 0 ? regex.length() : end;
+
+				literal.append(regex, index + 1, end);
+				index = end + 1;
+				continue;
+			}
+
+			char unescaped = unescape(escaped);
+			if( unescaped == Character.MIN_VALUE ) {
+				return null;
+			}
+
+			literal.append(unescaped);
+		}
+
+		return literal.length() == 0 ? null : literal.toString();
+	}
+
+	/**
+	 * finds the plain text a compiled regular expression would match, if the
+	 * expression is nothing more than a literal.
+	 *
+	 * @param pattern the compiled regular expression to inspect
+	 * @return the literal text, or {@code null} if the expression needs the regex
+	 *         engine
+	 * @see #literalOf(String)
+	 */
+	static String literalOf(Pattern pattern) {
+		if( pattern == null ) {
+			return null;
+		}
+
+		return switch (pattern.flags()) {
+			case 0 -> literalOf(pattern.pattern());
+			case Pattern.LITERAL -> pattern.pattern().isEmpty() ? null : pattern.pattern();
+
+			// flags like CASE_INSENSITIVE or COMMENTS change what a character matches
+			default -> null;
+		};
+	}
+
+	/**
+	 * @param escaped the character after a backslash
+	 * @return the character matched by the escape sequence, or
+	 *         {@link Character#MIN_VALUE} if the sequence is not a single literal
+	 *         character
+	 */
+	private static char unescape(char escaped) {
+		return switch (escaped) {
+			case 't' -> '\t';
+			case 'n' -> '\n';
+			case 'r' -> '\r';
+			case 'f' -> '\f';
+			case 'a' -> '\u0007';
+			case 'e' -> '\u001B';
+
+			// escaped letters & digits are classes, back references or anchors
+			default -> Character.isLetterOrDigit(escaped) ? Character.MIN_VALUE : escaped;
+		};
+	}
+
+}
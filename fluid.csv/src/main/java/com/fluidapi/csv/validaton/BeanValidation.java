@@ -20,7 +20,7 @@ public interface BeanValidation {
 		
 		failIf( !violations.isEmpty(),
 				() -> constructMessage(violations),
-				CsvConstraintViolationException::new );
+				CsvConstraintViolationException::stackless );
 	}
 
 	static <T> String constructMessage(Set<ConstraintViolation<T>> violations) {
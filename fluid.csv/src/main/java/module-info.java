@@ -21,4 +21,7 @@ module com.fluiapi.csv {
 	requires jakarta.el;
 	requires java.sql;
 	
+	// optional, SIMD scanning when present at runtime
+	requires static jdk.incubator.vector;
+	
 }
\ No newline at end of file
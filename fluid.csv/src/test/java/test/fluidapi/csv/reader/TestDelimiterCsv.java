@@ -1,14 +1,22 @@
 package test.fluidapi.csv.reader;
 
 import static com.fluidapi.csv.reader.CsvReader.auto;
+import static com.fluidapi.csv.reader.CsvReader.column;
 import static com.fluidapi.csv.reader.CsvReader.delimiter;
+import static com.fluidapi.csv.reader.CsvReader.intern;
+import static com.fluidapi.csv.reader.CsvReader.lenient;
+import static com.fluidapi.csv.reader.CsvReader.pipeline;
+import static com.fluidapi.csv.reader.CsvReader.strip;
 import static com.fluidapi.csv.reader.CsvReader.string;
 import static com.fluidapi.csv.utility.CollectionUtils.asSet;
+import static com.fluidapi.csv.utility.RegexUtils.literalOf;
 import static org.apache.commons.lang3.StringUtils.isNoneEmpty;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +24,14 @@ import org.junit.platform.commons.annotation.Testable;
 
 import com.fluidapi.csv.annotations.CsvColumn;
 import com.fluidapi.csv.annotations.CsvFormat;
+import com.fluidapi.csv.annotations.CsvIntern;
+import com.fluidapi.csv.bean.CsvError;
+import com.fluidapi.csv.exception.CsvColumnException;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.StringPool;
+import com.fluidapi.csv.reader.provider.linesplitter.SplitByDelimiter;
+import com.fluidapi.csv.reader.provider.linesplitter.SplitByLiteral;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -49,6 +65,43 @@ public class TestDelimiterCsv {
 			.allMatch(asSet("Olympus", "Europe", "Japan", "", null)::contains);
 	}
 	
+	@Test
+	public void testLiteral() {
+		assertThat(literalOf(";")).isEqualTo(";");
+		assertThat(literalOf("\\|")).isEqualTo("|");
+		assertThat(literalOf("\\t")).isEqualTo("\t");
+		assertThat(literalOf("\t")).isEqualTo("\t");
+		assertThat(literalOf(Pattern.quote("a.b"))).isEqualTo("a.b");
+		assertThat(literalOf(Pattern.compile("::", Pattern.LITERAL))).isEqualTo("::");
+		
+		// needs the regex engine
+		assertThat(literalOf("[;,]")).isNull();
+		assertThat(literalOf("a|b")).isNull();
+		assertThat(literalOf("\\s")).isNull();
+		assertThat(literalOf("\\")).isNull();
+		assertThat(literalOf(Pattern.compile("x", Pattern.CASE_INSENSITIVE))).isNull();
+	}
+	
+	@Test
+	public void testLiteralDelimiter() {
+		assertThat(delimiter("\\|")).isInstanceOf(SplitByLiteral.class);
+		assertThat(delimiter(Pattern.compile(Pattern.quote("+")))).isInstanceOf(SplitByLiteral.class);
+		assertThat(delimiter("[;,]")).isInstanceOf(SplitByDelimiter.class);
+		
+		// same columns as the regex engine, trailing empty ones removed
+		for (String line : new String[] { "a::b::::c", "a::b::::", "::a", "a", "", "::::", "a:b::c:", ":::" }) {
+			assertThat(delimiter("::").split(line))
+				.containsExactly(Pattern.compile("::").split(line));
+		}
+		for (String line : new String[] { "a.|b.c|", "a.|.|", "a|b" }) {
+			assertThat(delimiter(Pattern.quote(".|")).split(line))
+				.containsExactly(line.split(Pattern.quote(".|")));
+		}
+		
+		assertThat(delimiter("[;,]").split("a;b,c")).containsExactly("a", "b", "c");
+		assertThat(delimiter("\\|").split("a|b||")).containsExactly("a", "b");
+	}
+	
 	@Test
 	public void testBean() {
 		List<Person> nations = csv()
@@ -64,6 +117,137 @@ public class TestDelimiterCsv {
 			.anySatisfy(person -> assertThat(person.getNation()).isNullOrEmpty());
 	}
 	
+	@Test
+	public void testProjection() {
+		List<Person> projected = csv()
+				.map( delimiter(";").project( auto(Person.class) ) )
+				.map( auto(Person.class) )
+				.toList();
+		
+		assertThat(projected)
+			.containsExactlyElementsOf(csv().map( delimiter(";") ).map( auto(Person.class) ).toList());
+		
+		// only the picked column is extracted
+		assertThat(delimiter(";").project( string(1) ).split("Zeus;Nigoi;9012"))
+			.containsExactly(null, "Nigoi");
+	}
+	
+	@Test
+	public void testPipeline() {
+		List<Person> sequential = csv()
+				.map( delimiter(";") )
+				.map( auto(Person.class) )
+				.toList();
+		
+		try (Stream<Person> pipelined = pipeline( Stream.generate(this::csv).limit(1000).flatMap(lines -> lines) )
+				.split( delimiter(";") )
+				.decorate( strip() )
+				.batch(3)
+				.bind( auto(Person.class), 3 )) {
+			
+			assertThat(pipelined.toList())
+				.hasSize(4000)
+				.containsExactlyElementsOf(Stream.generate(() -> sequential).limit(1000).flatMap(List::stream).toList());
+		}
+	}
+	
+	@Test
+	public void testIntern() {
+		List<Resident> people = Stream.generate(this::csv).limit(2).flatMap(lines -> lines)
+				.map( delimiter(";") )
+				.map( auto(Resident.class) )
+				.toList();
+		List<Resident> rows = Stream.generate(this::csv).limit(2).flatMap(lines -> lines)
+				.map( delimiter(";").rows() )
+				.map( auto(Resident.class).rows() )
+				.toList();
+		List<String[]> columns = Stream.generate(this::csv).limit(2).flatMap(lines -> lines)
+				.map( delimiter(";") )
+				.map( intern(16, 4) )
+				.toList();
+		
+		assertThat(people.get(4).getNation()).isEqualTo("Olympus").isSameAs(people.get(0).getNation());
+		assertThat(rows.get(5).getNation()).isEqualTo("Europe").isSameAs(rows.get(1).getNation());
+		assertThat(columns.get(7)[4]).isEqualTo("Japan").isSameAs(columns.get(3)[4]);
+		
+		StringPool pool = new StringPool(StringPool.MAX_ENTRIES);
+		String nation = delimiter(";").row("Zeus;Nigoi;9012;1620JAN20;Olympus").string(4, pool);
+		assertThat(delimiter(";").row("Hera;Nigoi;9011;1620JAN21;Olympus").string(4, pool)).isSameAs(nation);
+	}
+	
+	@Test
+	public void testColumnPredicate() {
+		List<String> names = csv()
+				.map( delimiter(";") )
+				.filter( column(Person.class, "age").between(1000, 9999)
+						.and( column(4).in("Japan", "Olympus") ) )
+				.map( auto(Person.class) )
+				.map( Person::getFirstName )
+				.toList();
+		List<String> rows = csv()
+				.map( delimiter(";").rows() )
+				.filter( column(0).startsWith("Ni").or( column(Person.class, "nation").equalTo("Europe") ).rows() )
+				.map( auto(Person.class).rows() )
+				.map( Person::getFirstName )
+				.toList();
+		
+		assertThat(names).containsExactly("Zeus", "Yamamoto");
+		assertThat(rows).containsExactly("Philips", "Nishen");
+		
+		// a range matches whatever the column would be mapped to
+		String[] ages = { " 712 ", "+712", "712.0", "", "99999999999999999999" };
+		assertThat(Stream.of(ages).map( age -> column(0).between(700, 720).matches(new String[] { age }) ))
+			.containsExactly(true, true, false, false, false);
+		assertThat(delimiter(";").row(" 712 ;x")).matches( column(0).between(700, 720).rows() );
+	}
+	
+	@Test
+	public void testLenient() {
+		List<CsvError> errors = new ArrayList<>();
+		List<String> names = Stream.concat(csv(), Stream.of("Hades;Underworld;old;1700JAN1", "Athena;Pallas;3000;someday"))
+				.map( delimiter(";") )
+				.<Person>mapMulti( lenient(auto(Person.class), errors::add) )
+				.map( Person::getFirstName )
+				.toList();
+		
+		assertThat(names).containsExactly("Zeus", "Philips", "Nishen", "Yamamoto");
+		assertThat(errors).hasSize(2);
+		assertThat(errors.get(0).record()).isEqualTo(5L);
+		assertThat(errors.get(0).column()).isEqualTo(2);
+		assertThat(errors.get(0).text()).isEqualTo("old");
+		assertThat(errors.get(1).record()).isEqualTo(6L);
+		assertThat(errors.get(1).column()).isEqualTo(3);
+	}
+	
+	@Test
+	public void testLenientLines() {
+		List<CsvError> errors = new ArrayList<>();
+		String unclosed = "\"Hades;Underworld;300;1700JAN1";
+		List<String> names = Stream.concat(csv(), Stream.of(unclosed, "Athena;Pallas;old;1700JAN1"))
+				.<Person>mapMulti( lenient(auto(Person.class), errors::add).lines(CsvReader.csv(';')) )
+				.map( Person::getFirstName )
+				.toList();
+		
+		assertThat(names).containsExactly("Zeus", "Philips", "Nishen", "Yamamoto");
+		assertThat(errors).hasSize(2);
+		
+		// couldn't be split, told with the whole line
+		assertThat(errors.get(0).record()).isEqualTo(5L);
+		assertThat(errors.get(0).column()).isEqualTo(-1);
+		assertThat(errors.get(0).text()).isEqualTo(unclosed);
+		assertThat(errors.get(0).cause()).isInstanceOf(CsvFormatException.class);
+		assertThat(errors.get(0).cause().getStackTrace()).isEmpty();
+		
+		// split, but a column failed
+		assertThat(errors.get(1).record()).isEqualTo(6L);
+		assertThat(errors.get(1).column()).isEqualTo(2);
+		assertThat(errors.get(1).text()).isEqualTo("old");
+		assertThat(errors.get(1).cause()).isInstanceOf(CsvColumnException.class);
+		
+		// lines don't know where they were read from
+		assertThat(errors.stream().map( CsvError::offset )).containsExactly(-1L, -1L);
+	}
+	
 	private Stream<String> csv() {
 		return	"""
 				Zeus;Nigoi;9012;1620JAN20;Olympus
@@ -96,4 +280,17 @@ public class TestDelimiterCsv {
 		private String nation;
 		
 	}
+	
+	@Data
+	@NoArgsConstructor
+	public static class Resident {
+		
+		@CsvColumn(0)
+		private String firstName;
+		
+		@CsvColumn(4)
+		@CsvIntern
+		private String nation;
+		
+	}
 }
@@ -0,0 +1,471 @@
+package test.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.reader.CsvReader.auto;
+import static com.fluidapi.csv.reader.CsvReader.csv;
+import static com.fluidapi.csv.reader.CsvReader.lenient;
+import static com.fluidapi.csv.reader.CsvReader.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+import com.fluidapi.csv.annotations.CsvColumn;
+import com.fluidapi.csv.bean.CsvError;
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.exception.CsvFormatException;
+import com.fluidapi.csv.reader.CsvReader;
+import com.fluidapi.csv.reader.CsvRecordAccess;
+import com.fluidapi.csv.reader.CsvRow;
+import com.fluidapi.csv.reader.Utf8Record;
+import com.fluidapi.csv.reader.deserializer.IntColumnMapper;
+import com.fluidapi.csv.reader.provider.deserializer.column.primitive.MapDoublePrimitive;
+import com.fluidapi.csv.reader.provider.deserializer.column.primitive.MapIntPrimitive;
+import com.fluidapi.csv.reader.provider.deserializer.column.primitive.MapLongPrimitive;
+import com.fluidapi.csv.reader.provider.source.AsyncFileInputStream;
+import com.fluidapi.csv.reader.provider.source.BlockMasks;
+import com.fluidapi.csv.reader.provider.source.MappedChunkSpliterator;
+import com.fluidapi.csv.reader.provider.source.RecordIndex;
+import com.fluidapi.csv.reader.provider.source.RecordScanner;
+import com.fluidapi.csv.reader.provider.source.RecordSpliterator;
+import com.fluidapi.csv.reader.provider.source.StructuralScanner;
+import com.fluidapi.csv.reader.provider.source.Utf8Scanner;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Testable
+public class TestDialectCsv {
+
+	@Test
+	public void testQuotedDelimiters() {
+		List<String> addresses = records()
+				.map( csv() )
+				.map( string(2) )
+				.toList();
+
+		assertThat(addresses)
+			.hasSize(4)
+			.containsExactly("Mount Olympus, Greece", "Hague", "Tokyo, \"Edo\"", "");
+	}
+
+	@Test
+	public void testTrailingEmpty() {
+		assertThat(csv().split("a,\"b\","))
+			.containsExactly("a", "b", "");
+	}
+
+	@Test
+	public void testEscapeCharacter() {
+		assertThat(csv(new Dialect(';', '\'', '\\')).split("'D\\'Souza';\\;'a;b'"))
+			.containsExactly("D'Souza", "\\", "a;b");
+	}
+
+	@Test
+	public void testUnclosedQuote() {
+		assertThatThrownBy(() -> csv().split("a,\"b"))
+			.isInstanceOf(CsvFormatException.class);
+	}
+
+	@Test
+	public void testReusedColumns() {
+		String[] columns = new String[2];
+
+		assertThat(csv().split("a,\"b,c\"", columns)).isEqualTo(2);
+		assertThat(columns).containsExactly("a", "b,c");
+
+		// more columns than fit, only as many as fit are filled
+		assertThat(csv().split("x,y,z", columns)).isEqualTo(3);
+		assertThat(columns).containsExactly("x", "y");
+	}
+
+	@Test
+	public void testBean() {
+		List<Person> people = records()
+				.map( csv() )
+				.map( auto(Person.class) )
+				.toList();
+
+		assertThat(people)
+			.hasSize(4)
+			.allSatisfy(person -> assertThat(person.age).isPositive())
+			.anySatisfy(person -> assertThat(person.getAddress()).contains(","));
+	}
+
+	@Test
+	public void testNumbers() {
+		CsvRow row = csv().row(" 42 ,-7,1.5e3,,x");
+		IntColumnMapper length = (text, from, to) -> to - from;
+
+		assertThat(new MapIntPrimitive().mapInt(row, 0)).isEqualTo(42);
+		assertThat(new MapLongPrimitive().mapLong(row, 1)).isEqualTo(-7L);
+		assertThat(new MapDoublePrimitive().mapDouble(row, 2)).isEqualTo(1500D);
+		assertThat(new MapIntPrimitive().mapInt(row, 3)).isEqualTo(0);
+		assertThat(row.mapInt(0, length)).isEqualTo(4);
+		assertThatThrownBy(() -> new MapIntPrimitive().mapInt(row, 4))
+			.isInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	public void testRows() {
+		List<Person> people = records()
+				.map( csv().rows() )
+				.map( auto(Person.class).rows() )
+				.toList();
+
+		assertThat(people)
+			.containsExactlyElementsOf(records().map( csv() ).map( auto(Person.class) ).toList());
+	}
+
+	@Test
+	public void testRowView() {
+		CsvRow row = csv().row("Nishen,712,\"Tokyo, \"\"Edo\"\"\"");
+
+		assertThat(row.size()).isEqualTo(3);
+		assertThat(row.equals(0, "Nishen")).isTrue();
+		assertThat(row.length(1)).isEqualTo(3);
+		assertThat(row.column(2).toString()).isEqualTo("Tokyo, \"Edo\"");
+	}
+
+	@Test
+	public void testMultiLineRecords() {
+		String text = "Zeus,9012,\"Mount Olympus,\r\nGreece\"\r\n\"Phil\"\"ips\",5120,Hague\nNishen,712,\"Tokyo\nEdo\"\rYamamoto,1821,";
+		List<String[]> expected = List.of(
+				new String[] { "Zeus", "9012", "Mount Olympus,\r\nGreece" },
+				new String[] { "Phil\"ips", "5120", "Hague" },
+				new String[] { "Nishen", "712", "Tokyo\nEdo" },
+				new String[] { "Yamamoto", "1821", "" });
+
+		assertThat(CsvReader.records(new StringReader(text), Dialect.RFC4180))
+			.containsExactlyElementsOf(expected);
+
+		// buffers smaller than a record, so that fields straddle refills, or outgrow the buffer
+		for (int size = 2; size < 12; size++) {
+			assertThat(StreamSupport.stream(new RecordSpliterator(new StringReader(text), Dialect.RFC4180, size), false))
+				.containsExactlyElementsOf(expected);
+		}
+
+		// last record without a line break
+		assertThat(CsvReader.records(new StringReader("a,b\n\"c\nd\",e"), Dialect.RFC4180))
+			.containsExactly(new String[] { "a", "b" }, new String[] { "c\nd", "e" });
+		assertThatThrownBy(() -> CsvReader.records(new StringReader("a,\"b\nc"), Dialect.RFC4180).toList())
+			.isInstanceOf(CsvFormatException.class);
+	}
+
+	@Test
+	public void testUtf8() {
+		String[] lines = { "Zoë,9012,\"Ολυμπος,\r\nGreece\"", "\"東京, \"\"Edo\"\"\",712,x", "plain,1,", "\"\",\"😀\",\"a\nb\"" };
+		String[] breaks = { "\r\n", "\n", "\r\n", "" };
+
+		StringBuilder text = new StringBuilder("skipped\n");
+		List<Long> offsets = new ArrayList<>();
+		for (int index = 0; index < lines.length; index++) {
+			offsets.add((long) text.toString().getBytes(UTF_8).length);
+			text.append(lines[index]).append(breaks[index]);
+		}
+		byte[] bytes = text.toString().getBytes(UTF_8);
+
+		// a direct buffer, scanned from its position onwards
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(8);
+		List<Utf8Record> records = CsvReader.utf8(buffer, Dialect.RFC4180).toList();
+
+		assertThat(records.stream().map( Utf8Record::toArray ))
+			.containsExactlyElementsOf(CsvReader.records(new ByteArrayInputStream(bytes, 8, bytes.length - 8), Dialect.RFC4180).toList());
+		assertThat(records.stream().map( Utf8Record::offset ))
+			.containsExactlyElementsOf(offsets);
+		assertThat(records.get(0).column(2)).isEqualTo("Ολυμπος,\r\nGreece");
+		assertThat(records.get(1).column(0)).isEqualTo("東京, \"Edo\"");
+
+		// raw bytes, the doubled quotes included
+		assertThat(records.get(1).byteLength(0)).isEqualTo(15);
+		assertThat(records.get(3).toArray()).containsExactly("", "😀", "a\nb");
+
+		// escaped by an escape character instead of doubling
+		Dialect escaped = new Dialect(';', '\'', '\\');
+		byte[] apostrophes = "'D\\'Souza';é\n'a;b';\\;".getBytes(UTF_8);
+		assertThat(CsvReader.utf8(ByteBuffer.wrap(apostrophes), escaped).map( Utf8Record::toArray ))
+			.containsExactlyElementsOf(CsvReader.records(new ByteArrayInputStream(apostrophes), escaped).toList());
+	}
+
+	@Test
+	public void testStructuralScanner() {
+		Random random = new Random(20240606);
+		String[] plain = { "Zeus", "9012", " ", "é", "東京", "😀", "" };
+		String[] quoted = { "Zeus", ",", "\"\"", "\n", "\r\n", "\r", "Ελλάδα", "😀" };
+		String[] breaks = { "\n", "\r\n", "\r" };
+
+		BlockMasks scalar = new BlockMasks(Dialect.RFC4180);
+		// null without the vector module, added to the tests by the build
+		BlockMasks vectorized = BlockMasks.vectorized(Dialect.RFC4180);
+		assertThat(vectorized).isNotNull();
+
+		for (int sample = 0; sample < 500; sample++) {
+			StringBuilder text = new StringBuilder();
+			for (int record = random.nextInt(20); record >= 0; record--) {
+				for (int column = random.nextInt(6); column >= 0; column--) {
+					String[] pieces = random.nextBoolean() ? plain : quoted;
+					text.append(pieces == quoted ? "\"" : "");
+					for (int piece = random.nextInt(6); piece > 0; piece--) {
+						text.append(pieces[random.nextInt(pieces.length)]);
+					}
+					text.append(pieces == quoted ? "\"" : "").append(column > 0 ? "," : "");
+				}
+				text.append(breaks[random.nextInt(breaks.length)]);
+			}
+			if( sample % 10 == 0 ) {
+				// a stray quote, failing the same way with every scanner
+				text.insert(random.nextInt(text.length()), '"');
+			}
+
+			byte[] bytes = text.toString().getBytes(UTF_8);
+			ByteBuffer heap = ByteBuffer.wrap(bytes);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+			for (int from = 0; from < bytes.length; from += 1 + random.nextInt(BlockMasks.BLOCK)) {
+				int length = Math.min(BlockMasks.BLOCK, bytes.length - from);
+				long[] expected = new long[3], actual = new long[3];
+				scalar.masks(heap, from, length, expected);
+
+				for (ByteBuffer buffer : new ByteBuffer[] { heap, direct }) {
+					vectorized.masks(buffer, from, length, actual);
+					assertThat(actual).containsExactly(expected[0], expected[1], expected[2]);
+				}
+			}
+
+			List<String> records = scan(new Utf8Scanner(heap, Dialect.RFC4180, 0, bytes.length, 0));
+			assertThat(scan(new StructuralScanner(direct, Dialect.RFC4180, scalar, 0, bytes.length, 0)))
+				.containsExactlyElementsOf(records);
+			assertThat(scan(new StructuralScanner(direct, Dialect.RFC4180, vectorized, 0, bytes.length, 0)))
+				.containsExactlyElementsOf(records);
+			assertThat(scan(RecordScanner.of(heap, Dialect.RFC4180, 0, bytes.length, 0)))
+				.containsExactlyElementsOf(records);
+			assertThat(scan(RecordScanner.of(direct, Dialect.RFC4180, 0, bytes.length, 0)))
+				.containsExactlyElementsOf(records);
+		}
+	}
+
+	@Test
+	public void testParallel() throws IOException {
+		Path file = Files.createTempFile("parallel", ".csv");
+		Random random = new Random(20240605);
+
+		// several chunks, most bytes quoted, so that chunks start within quotes
+		StringBuilder text = new StringBuilder();
+		while( text.length() < 5 * MappedChunkSpliterator.MIN_CHUNK ) {
+			text.append("Zeus").append(random.nextInt(10000)).append(",\"");
+			for (int line = random.nextInt(8); line >= 0; line--) {
+				text.append("Mount Olympus, \"\"Greece\"\"").append(random.nextBoolean() ? "\n" : "\r\n");
+			}
+			text.append("\",").append(random.nextInt()).append(random.nextBoolean() ? "\n" : "\r\n");
+		}
+		Files.writeString(file, text);
+
+		try (Stream<String[]> sequential = CsvReader.records(file, Dialect.RFC4180);
+			 Stream<String[]> parallel = CsvReader.parallel(file, Dialect.RFC4180)) {
+			List<String[]> expected = sequential.toList();
+			assertThat(parallel.toList()).containsExactlyElementsOf(expected);
+
+			// split after traversal began, the open chunk still comes first
+			Spliterator<Utf8Record> records = MappedChunkSpliterator.of(file, Dialect.RFC4180, 8);
+			List<String[]> ordered = new ArrayList<>();
+			records.tryAdvance(record -> ordered.add(record.toArray()));
+			Spliterator<Utf8Record> prefix = records.trySplit();
+
+			assertThat(prefix).isNotNull();
+			prefix.forEachRemaining(record -> ordered.add(record.toArray()));
+			records.forEachRemaining(record -> ordered.add(record.toArray()));
+			assertThat(ordered).containsExactlyElementsOf(expected);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testIndexed() throws IOException {
+		Path file = Files.createTempFile("indexed", ".csv");
+		Files.writeString(file, "Zeus,9012,\"Mount Olympus,\nGreece\"\r\n" + String.join("\n", records().toList()));
+
+		try (CsvRecordAccess<String[]> people = RecordIndex.build(file, Dialect.RFC4180, 2);
+			 Stream<String[]> window = people.range(2, 4)) {
+			assertThat(people.count()).isEqualTo(5);
+			assertThat(people.get(3)).containsExactly("Nishen", "712", "Tokyo, \"Edo\"");
+			assertThat(window.map( auto(Person.class) ))
+				.containsExactlyElementsOf(records().skip(1).limit(2).map( csv() ).map( auto(Person.class) ).toList());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testReadAhead() throws IOException {
+		Path file = Files.createTempFile("read-ahead", ".csv");
+		Files.writeString(file, String.join("\r\n", records().toList()));
+
+		// buffers smaller than a record, so that every record straddles them
+		try (Stream<String[]> people = CsvReader.records(file, Dialect.RFC4180, 16, 2)) {
+			assertThat(people.map( auto(Person.class) ))
+				.containsExactlyElementsOf(records().map( csv() ).map( auto(Person.class) ).toList());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testReadAheadEnd() throws IOException {
+		Path file = Files.createTempFile("read-ahead", ".csv");
+		Files.writeString(file, "a,b\nc,d");
+
+		// far fewer bytes than the buffers, most of which are never read into
+		try (Stream<String> lines = CsvReader.lines(file, 1 << 20, 4)) {
+			assertThat(lines).containsExactly("a,b", "c,d");
+		}
+		try (Stream<String> lines = CsvReader.lines(file, 2, 2)) {
+			assertThat(lines).containsExactly("a,b", "c,d");
+		}
+
+		// nothing more once the end is reached
+		try (AsyncFileInputStream input = new AsyncFileInputStream(file, 16, 2)) {
+			byte[] bytes = new byte[16];
+			assertThat(input.read(bytes, 0, 16)).isEqualTo(7);
+			assertThat(input.read(bytes, 0, 16)).isEqualTo(-1);
+			assertThat(input.read(bytes, 0, 16)).isEqualTo(-1);
+			assertThat(input.read()).isEqualTo(-1);
+			assertThat(input.available()).isEqualTo(0);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testFiles() throws IOException {
+		Path directory = Files.createTempDirectory("files");
+		for (int index = 0; index < 10; index++) {
+			Files.writeString(directory.resolve("people-" + index + ".csv"), String.join("\n", records().toList()));
+		}
+		Files.writeString(directory.resolve("people-5.csv"), "Zeus,unknown,Olympus");
+
+		List<Path> failed = new ArrayList<>();
+		try (Stream<Person> people = CsvReader.files(directory, "*.csv")
+				.concurrency(3)
+				.ordered()
+				.onError((path, e) -> failed.add(path.getFileName()))
+				.read(path -> Files.lines(path).map( csv() ).map( auto(Person.class) ))) {
+
+			List<Person> each = records().map( csv() ).map( auto(Person.class) ).toList();
+			assertThat(people.toList())
+				.containsExactlyElementsOf(Stream.generate(() -> each).limit(9).flatMap(List::stream).toList());
+			assertThat(failed).containsExactly(Path.of("people-5.csv"));
+		} finally {
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : files.toList()) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	public void testSurvey() throws IOException {
+		Path file = Files.createTempFile("survey", ".csv");
+		Files.writeString(file, "Zeus,9012,\"Mount Olympus,\r\nGreece\"\r\n" + String.join("\r\n", records().toList()));
+
+		try (Stream<String[]> rest = CsvReader.skip(file, Dialect.RFC4180, 2);
+			 Stream<String[]> all = CsvReader.sample(file, Dialect.RFC4180, 1, 0)) {
+			assertThat(CsvReader.count(file)).isEqualTo(5);
+			assertThat(CsvReader.estimate(file, Dialect.RFC4180)).isEqualTo(5);
+			assertThat(rest.map( auto(Person.class) ))
+				.containsExactlyElementsOf(records().skip(1).map( csv() ).map( auto(Person.class) ).toList());
+			assertThat(all.toList().get(0)).containsExactly("Zeus", "9012", "Mount Olympus,\r\nGreece");
+			assertThat(CsvReader.reservoir(file, Dialect.RFC4180, 3, 0)).hasSize(3);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * offset and columns of each record, till the first failure if any
+	 */
+	private List<String> scan(RecordScanner scanner) {
+		List<String> records = new ArrayList<>();
+		try {
+			while( scanner.hasNext() ) {
+				Utf8Record record = scanner.next();
+				records.add(record.offset() + Arrays.toString(record.toArray()));
+			}
+		} catch (CsvFormatException e) {
+			records.add("malformed");
+		}
+
+		return records;
+	}
+
+	private Stream<String> records() {
+		return	"""
+				Zeus,9012,"Mount Olympus, Greece"
+				"Philips",5120,Hague
+				Nishen,712,"Tokyo, ""Edo\"""
+				Yamamoto,1821,
+				"""
+				.lines();
+	}
+
+	@Test
+	public void testLenientUtf8() {
+		String[] lines = { "Zoë,9012,\"Ολυμπος,\r\nGreece\"\r\n", "東京,old,Edo\n", "plain,1,\n", "\"multi\nline\",x,\n" };
+
+		StringBuilder text = new StringBuilder();
+		List<Long> offsets = new ArrayList<>();
+		for (String line : lines) {
+			offsets.add((long) text.toString().getBytes(UTF_8).length);
+			text.append(line);
+		}
+
+		List<CsvError> errors = new ArrayList<>();
+		List<String> names = CsvReader.utf8(ByteBuffer.wrap(text.toString().getBytes(UTF_8)), Dialect.RFC4180)
+				.<Person>mapMulti( lenient(auto(Person.class), errors::add).utf8() )
+				.map( Person::getName )
+				.toList();
+
+		assertThat(names).containsExactly("Zoë", "plain");
+		assertThat(errors).hasSize(2);
+		assertThat(errors.stream().map( CsvError::record )).containsExactly(2L, 4L);
+		assertThat(errors.stream().map( CsvError::column )).containsExactly(1, 1);
+		assertThat(errors.stream().map( CsvError::text )).containsExactly("old", "x");
+
+		// byte offsets, past multi-byte characters and line breaks within quotes
+		assertThat(errors.stream().map( CsvError::offset )).containsExactly(offsets.get(1), offsets.get(3));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Person {
+
+		@CsvColumn(0)
+		private String name;
+
+		@CsvColumn(1)
+		private int age;
+
+		@CsvColumn(2)
+		private String address;
+
+	}
+}
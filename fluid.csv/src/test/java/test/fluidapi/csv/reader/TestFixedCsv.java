@@ -2,12 +2,17 @@ package test.fluidapi.csv.reader;
 
 import static com.fluidapi.csv.reader.CsvReader.auto;
 import static com.fluidapi.csv.reader.CsvReader.fixed;
+import static com.fluidapi.csv.reader.CsvReader.fixedRecords;
 import static com.fluidapi.csv.reader.CsvReader.string;
 import static com.fluidapi.csv.reader.CsvReader.strip;
 import static com.fluidapi.csv.utility.CollectionUtils.asSet;
 import static org.apache.commons.lang3.StringUtils.isNoneEmpty;
+import static org.apache.commons.lang3.StringUtils.rightPad;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Stream;
@@ -19,6 +24,7 @@ import com.fluidapi.csv.annotations.CsvColumn;
 import com.fluidapi.csv.annotations.CsvFormat;
 import com.fluidapi.csv.annotations.CsvStrip;
 import com.fluidapi.csv.bean.Strip;
+import com.fluidapi.csv.reader.CsvRecordAccess;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -68,6 +74,24 @@ public class TestFixedCsv {
 			.anySatisfy(person -> assertThat(person.getNation()).isNullOrEmpty());
 	}
 	
+	@Test
+	public void testRecordAccess() throws IOException {
+		Path file = Files.createTempFile("fixed", ".txt");
+		Files.write(file, csv().map(line -> rightPad(line, 50)).toList());
+		
+		try (CsvRecordAccess<String> records = fixedRecords(file, 50)) {
+			assertThat(records.count()).isEqualTo(4);
+			
+			assertThat(fixed(12, 12, 7, 9, 10).andThen(strip()).andThen(string()).apply(records.get(2)))
+				.isEqualTo("Nishen");
+			
+			assertThat(records.range(1, 3).map( fixed(12, 12, 7, 9, 10) ).map( strip() ).map( string(4) ))
+				.containsExactly("Europe", "");
+		} finally {
+			Files.delete(file);
+		}
+	}
+	
 	private Stream<String> csv() {
 		return	"""
 				Zeus        Nigoi       9012   1620JAN20Olympus
@@ -0,0 +1,177 @@
+package test.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.reader.CsvReader.gzip;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+import com.fluidapi.csv.bean.Dialect;
+import com.fluidapi.csv.reader.CsvRecordAccess;
+import com.fluidapi.csv.reader.provider.source.GzipRecordIndex;
+
+@Testable
+public class TestGzipCsv {
+
+	/**
+	 * records written to test checkpoints, for a few megabytes inflated
+	 */
+	private static final int RECORDS = 100_000;
+
+	@Test
+	public void testMembers() throws IOException {
+		byte[] csv = csv().getBytes(UTF_8);
+		int half = csv.length / 2;
+
+		ByteArrayOutputStream members = new ByteArrayOutputStream();
+		try (GZIPOutputStream member = new GZIPOutputStream(members)) {
+			member.write(csv, 0, half);
+		}
+		try (GZIPOutputStream member = new GZIPOutputStream(members)) {
+			member.write(csv, half, csv.length - half);
+		}
+
+		assertThat(read(members.toByteArray())).containsExactlyElementsOf(expected());
+	}
+
+	@Test
+	public void testBlocks() throws IOException {
+		byte[] csv = csv().getBytes(UTF_8);
+
+		ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+		for (int from = 0; from < csv.length; from += 1000) {
+			blocks.write(block(csv, from, Math.min(1000, csv.length - from)));
+		}
+		blocks.write(block(csv, 0, 0));
+
+		assertThat(read(blocks.toByteArray())).containsExactlyElementsOf(expected());
+	}
+
+	@Test
+	public void testCheckpoints() throws IOException {
+		Path file = Files.createTempFile("records", ".csv.gz");
+		Path saved = GzipRecordIndex.sidecar(file);
+
+		// many deflate blocks, each beginning anywhere within a byte, but those flushed
+		byte[] csv = csv(RECORDS).getBytes(UTF_8);
+		try (GZIPOutputStream compressed = new GZIPOutputStream(Files.newOutputStream(file), true)) {
+			compressed.write(csv, 0, csv.length / 2);
+			compressed.flush();
+			compressed.write(csv, csv.length / 2, csv.length - csv.length / 2);
+		}
+
+		Path sparse = Files.createTempFile("records", ".idx");
+		try (GzipRecordIndex records = GzipRecordIndex.build(file, Dialect.RFC4180, 1 << 16)) {
+			List<String> expected = expected(RECORDS);
+			assertThat(records.count()).isEqualTo(RECORDS);
+
+			// ranges all through the file, hence from every checkpoint, at and past it
+			for (int from = 0; from < RECORDS; from += 997) {
+				int to = Math.min(from + 3, RECORDS);
+				assertThat(range(records, from, to)).containsExactlyElementsOf(expected.subList(from, to));
+			}
+			assertThat(range(records, RECORDS - 10, RECORDS)).containsExactlyElementsOf(expected.subList(RECORDS - 10, RECORDS));
+
+			// through the flush, i.e. a stored block, from a checkpoint within a byte
+			assertThat(range(records, RECORDS / 4, RECORDS)).containsExactlyElementsOf(expected.subList(RECORDS / 4, RECORDS));
+			assertThat(records.get(500)).containsExactly("500", "line\nbreak 500", "Zeus");
+
+			// a checkpoint every span, each saved with its window, unlike a single one
+			records.save(saved);
+			try (GzipRecordIndex single = GzipRecordIndex.build(file, Dialect.RFC4180, Integer.MAX_VALUE)) {
+				single.save(sparse);
+			}
+			assertThat(Files.size(saved)).isGreaterThan(10 * Files.size(sparse));
+
+			try (GzipRecordIndex loaded = GzipRecordIndex.load(file, Dialect.RFC4180, saved).orElseThrow()) {
+				assertThat(loaded.count()).isEqualTo(RECORDS);
+				for (int from = 500; from < RECORDS; from += 9973) {
+					assertThat(range(loaded, from, from + 3)).containsExactlyElementsOf(expected.subList(from, from + 3));
+				}
+			}
+			assertThat(GzipRecordIndex.load(file, new Dialect(';', '"', '"'), saved)).isEmpty();
+		} finally {
+			Files.delete(sparse);
+			Files.deleteIfExists(saved);
+			Files.delete(file);
+		}
+	}
+
+	private List<String> range(CsvRecordAccess<String[]> records, long from, long to) {
+		try (Stream<String[]> range = records.range(from, to)) {
+			return range.map(record -> String.join("|", record)).toList();
+		}
+	}
+
+	private List<String> read(byte[] compressed) throws IOException {
+		Path file = Files.createTempFile("records", ".csv.gz");
+		Files.write(file, compressed);
+
+		try (Stream<String[]> records = gzip(file)) {
+			return records.map(record -> String.join("|", record)).toList();
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * a gzip member telling its size in a {@code BC} extra field, as in BGZF
+	 */
+	private byte[] block(byte[] bytes, int from, int length) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		deflater.setInput(bytes, from, length);
+		deflater.finish();
+
+		byte[] deflated = new byte[length + 64];
+		int size = deflater.deflate(deflated);
+		deflater.end();
+
+		CRC32 crc = new CRC32();
+		crc.update(bytes, from, length);
+
+		return ByteBuffer.allocate(18 + size + 8).order(ByteOrder.LITTLE_ENDIAN)
+				.put(new byte[] { 0x1f, (byte) 0x8b, 8, 4, 0, 0, 0, 0, 0, (byte) 0xff })
+				.putShort((short) 6).put((byte) 'B').put((byte) 'C').putShort((short) 2)
+				.putShort((short) (18 + size + 8 - 1))
+				.put(deflated, 0, size)
+				.putInt((int) crc.getValue())
+				.putInt(length)
+				.array();
+	}
+
+	private String csv() {
+		return csv(1000);
+	}
+
+	private String csv(int records) {
+		return IntStream.range(0, records)
+				.mapToObj(index -> index + ",\"line\nbreak " + index + "\",Zeus")
+				.collect(Collectors.joining("\r\n"));
+	}
+
+	private List<String> expected() {
+		return expected(1000);
+	}
+
+	private List<String> expected(int records) {
+		return IntStream.range(0, records)
+				.mapToObj(index -> index + "|line\nbreak " + index + "|Zeus")
+				.toList();
+	}
+
+}
@@ -0,0 +1,152 @@
+package test.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.utility.NumberParsing.parseBigDecimal;
+import static com.fluidapi.csv.utility.NumberParsing.parseDouble;
+import static com.fluidapi.csv.utility.NumberParsing.parseFloat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+@Testable
+public class TestNumberCsv {
+
+	private static final int SAMPLES = 100_000;
+
+	@Test
+	public void testDoubles() {
+		Random random = new Random(20240601);
+		List<String> mismatches = new ArrayList<>();
+
+		for (int sample = 0; sample < SAMPLES; sample++) {
+			double value = Double.longBitsToDouble(random.nextLong());
+			compare(Double.toString(value), mismatches);
+
+			// exactly halfway between two doubles, and close around it
+			value = Math.abs(value);
+			if( Double.isFinite(value) && Double.isFinite(Math.nextUp(value)) ) {
+				BigDecimal half = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value)))
+						.divide(BigDecimal.valueOf(2));
+				compare(half.toString(), mismatches);
+				compare(half.round(new MathContext(17 + random.nextInt(8))).toString(), mismatches);
+			}
+
+			compare(digits(random), mismatches);
+		}
+
+		assertThat(mismatches).isEmpty();
+	}
+
+	@Test
+	public void testFloats() {
+		Random random = new Random(20240602);
+		List<String> mismatches = new ArrayList<>();
+
+		for (int sample = 0; sample < SAMPLES; sample++) {
+			float value = Float.intBitsToFloat(random.nextInt());
+			compare(Float.toString(value), mismatches);
+
+			value = Math.abs(value);
+			if( Float.isFinite(value) && Float.isFinite(Math.nextUp(value)) ) {
+				BigDecimal half = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value)))
+						.divide(BigDecimal.valueOf(2));
+				compare(half.toString(), mismatches);
+				compare(half.round(new MathContext(9 + random.nextInt(12))).toString(), mismatches);
+			}
+		}
+
+		for (String edge : new String[] { "4.9e-324", "2.4703282292062328e-324", "2.2250738585072011e-308",
+				"1.7976931348623158e308", "9007199254740993", "1.4e-45", "7.006492321624086e-46", "3.4028236e38",
+				"18446744073709551616e-5", "123456789012345678901234567890e-50", " -0.0 ", "1e-400", "+.5e1" }) {
+			compare(edge, mismatches);
+		}
+
+		assertThat(mismatches).isEmpty();
+	}
+
+	@Test
+	public void testBigDecimals() {
+		Random random = new Random(20240603);
+		List<String> mismatches = new ArrayList<>();
+
+		for (int sample = 0; sample < SAMPLES; sample++) {
+			String number = digits(random);
+
+			BigDecimal parsed, expected;
+			try {
+				expected = new BigDecimal(number);
+			} catch (NumberFormatException e) {
+				expected = null;
+			}
+			try {
+				parsed = parseBigDecimal(number, 0, number.length());
+			} catch (NumberFormatException e) {
+				parsed = null;
+			}
+
+			// equals tells the scale apart too, i.e. 1.0 from 1.00
+			if( expected == null ? parsed != null : !expected.equals(parsed) ) {
+				mismatches.add(number);
+			}
+		}
+
+		assertThat(parseBigDecimal(" 1234.50 ", 0, 9)).isEqualTo(new BigDecimal("1234.50"));
+		assertThat(parseBigDecimal("x-1.5e-3", 1, 8)).isEqualTo(new BigDecimal("-1.5e-3"));
+		assertThat(mismatches).isEmpty();
+	}
+
+	/**
+	 * random digits, with a fraction and exponent, or without
+	 */
+	private String digits(Random random) {
+		StringBuilder number = new StringBuilder();
+		if( random.nextBoolean() ) {
+			number.append('-');
+		}
+
+		for (int digit = random.nextInt(25); digit > 0; digit--) {
+			number.append((char) ('0' + random.nextInt(10)));
+		}
+		if( random.nextBoolean() ) {
+			number.append('.');
+			for (int digit = random.nextInt(25); digit > 0; digit--) {
+				number.append((char) ('0' + random.nextInt(10)));
+			}
+		}
+		if( random.nextBoolean() ) {
+			number.append('e').append(random.nextInt(700) - 350);
+		}
+
+		return number.toString();
+	}
+
+	/**
+	 * same bits as the {@code JDK}, or both fail
+	 */
+	private void compare(String number, List<String> mismatches) {
+		String parsed, expected;
+		try {
+			expected = Long.toHexString(Double.doubleToRawLongBits(Double.parseDouble(number)))
+					+ "/" + Integer.toHexString(Float.floatToRawIntBits(Float.parseFloat(number)));
+		} catch (NumberFormatException e) {
+			expected = "malformed";
+		}
+		try {
+			parsed = Long.toHexString(Double.doubleToRawLongBits(parseDouble(number, 0, number.length())))
+					+ "/" + Integer.toHexString(Float.floatToRawIntBits(parseFloat(number, 0, number.length())));
+		} catch (NumberFormatException e) {
+			parsed = "malformed";
+		}
+
+		if( !parsed.equals(expected) ) {
+			mismatches.add(number);
+		}
+	}
+
+}
@@ -0,0 +1,203 @@
+package test.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.reader.CsvReader.auto;
+import static com.fluidapi.csv.reader.CsvReader.csv;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InputStream;
+import java.lang.module.Configuration;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReader;
+import java.lang.module.ModuleReference;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+import com.fluidapi.csv.annotations.CsvColumn;
+import com.fluidapi.csv.exception.CsvColumnException;
+import com.fluidapi.csv.provider.bean.MethodInfo;
+import com.fluidapi.csv.provider.bean.SetterInfo;
+import com.fluidapi.csv.provider.bean.WritableFieldInfo;
+import com.fluidapi.csv.reader.CsvBeanDeserializer;
+import com.fluidapi.csv.reader.CsvReader;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import test.fluidapi.csv.reader.closed.Counter;
+
+@Testable
+public class TestPrimitiveCsv {
+
+	private static final String LINE = "7,9000000000,1.5,42,25";
+
+	@Test
+	public void testBean() {
+		CsvBeanDeserializer<Reading> deserializer = auto(Reading.class);
+
+		List<Reading> readings = List.of(
+				deserializer.convert(csv().split(LINE)),
+				deserializer.convert(csv().row(LINE)));
+
+		for (Reading reading : readings) {
+			assertThat(reading.getCount()).isEqualTo(7);
+			assertThat(reading.getTotal()).isEqualTo(9_000_000_000L);
+			assertThat(reading.getMean()).isEqualTo(1.5);
+			assertThat(reading.getId()).isEqualTo(42L);
+
+			// through the setter, which takes a percentage
+			assertThat(reading.getScale()).isEqualTo(0.25);
+		}
+	}
+
+	@Test
+	public void testSetters() throws ReflectiveOperationException {
+		Reading reading = new Reading();
+
+		new WritableFieldInfo(Reading.class.getDeclaredField("count")).setInt(reading, 3);
+		new WritableFieldInfo(Reading.class.getDeclaredField("total")).setLong(reading, 1L << 40);
+		new WritableFieldInfo(Reading.class.getDeclaredField("mean")).setDouble(reading, 0.5);
+		new SetterInfo(new MethodInfo(Reading.class.getMethod("setScale", double.class))).setDouble(reading, 50);
+
+		assertThat(reading.getCount()).isEqualTo(3);
+		assertThat(reading.getTotal()).isEqualTo(1L << 40);
+		assertThat(reading.getMean()).isEqualTo(0.5);
+		assertThat(reading.getScale()).isEqualTo(0.5);
+
+		// boxed, same as any other property
+		new WritableFieldInfo(Reading.class.getDeclaredField("count")).set(reading, 4);
+		assertThat(reading.getCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void testBadColumn() {
+		CsvBeanDeserializer<Reading> deserializer = auto(Reading.class);
+
+		Stream.of("x,1,1,1,1", "1,1,1.5.0,1,1", "1,1,1,1,%").forEach(line -> {
+			assertThatThrownBy(() -> deserializer.convert(csv().split(line)))
+				.isInstanceOf(CsvColumnException.class);
+			assertThatThrownBy(() -> deserializer.convert(csv().row(line)))
+				.isInstanceOf(CsvColumnException.class);
+		});
+
+		assertThatThrownBy(() -> deserializer.convert(csv().split("1,x,1,1,1")))
+			.isInstanceOf(CsvColumnException.class)
+			.hasMessageContaining("column 1 'x'");
+		assertThatThrownBy(() -> deserializer.convert(csv().row("1,1,1,x,1")))
+			.isInstanceOf(CsvColumnException.class)
+			.hasMessageContaining("column 3 'x'");
+	}
+
+	@Test
+	public void testClosedPackage() throws ReflectiveOperationException {
+		Class<?> type = closed(Counter.class);
+
+		// can't be looked up privately, hence set through public access instead
+		assertThat(type.getModule().isNamed()).isTrue();
+		assertThat(type.getModule().isOpen(type.getPackageName(), CsvReader.class.getModule())).isFalse();
+
+		Object counter = auto(type).convert(csv().split("7,9000000000"));
+		assertThat(type.getField("count").getInt(counter)).isEqualTo(7);
+		assertThat(type.getMethod("getTotal").invoke(counter)).isEqualTo(9_000_000_000L);
+
+		assertThatThrownBy(() -> auto(type).convert(csv().split("x,1")))
+			.isInstanceOf(CsvColumnException.class);
+	}
+
+	/**
+	 * @return the class, loaded afresh into a module of its own, that exports its
+	 *         package, but doesn't open it
+	 */
+	private static Class<?> closed(Class<?> type) throws ClassNotFoundException {
+		String name = type.getPackageName();
+		ModuleDescriptor descriptor = ModuleDescriptor.newModule(name)
+				.exports(name)
+				.build();
+
+		ModuleReference reference = new ModuleReference(descriptor, null) {
+			@Override
+			public ModuleReader open() {
+				return new ModuleReader() {
+					@Override
+					public Optional<URI> find(String resource) {
+						return Optional.empty();
+					}
+
+					@Override
+					public Optional<InputStream> open(String resource) {
+						return Optional.ofNullable(type.getClassLoader().getResourceAsStream(resource));
+					}
+
+					@Override
+					public Stream<String> list() {
+						return Stream.empty();
+					}
+
+					@Override
+					public void close() {
+						// nothing held
+					}
+				};
+			}
+		};
+		ModuleFinder finder = new ModuleFinder() {
+			@Override
+			public Optional<ModuleReference> find(String module) {
+				return module.equals(name) ? Optional.of(reference) : Optional.empty();
+			}
+
+			@Override
+			public Set<ModuleReference> findAll() {
+				return Set.of(reference);
+			}
+		};
+
+		Configuration configuration = ModuleLayer.boot().configuration()
+				.resolve(finder, ModuleFinder.of(), Set.of(name));
+		ModuleLayer.Controller layer = ModuleLayer.defineModulesWithOneLoader(configuration,
+				List.of(ModuleLayer.boot()), type.getClassLoader());
+
+		// to see the csv annotations
+		Module module = layer.layer().findModule(name).orElseThrow();
+		layer.addReads(module, CsvColumn.class.getModule());
+
+		return layer.layer().findLoader(name).loadClass(type.getName());
+	}
+
+	@Getter
+	@NoArgsConstructor
+	public static class Reading {
+
+		@CsvColumn(0)
+		private int count;
+
+		@CsvColumn(1)
+		private long total;
+
+		@CsvColumn(2)
+		private double mean;
+
+		@Setter
+		@CsvColumn(3)
+		private long id;
+
+		private double scale;
+
+		/**
+		 * @param percent scale, as a percentage
+		 */
+		@CsvColumn(4)
+		public void setScale(double percent) {
+			this.scale = percent / 100;
+		}
+
+	}
+
+}
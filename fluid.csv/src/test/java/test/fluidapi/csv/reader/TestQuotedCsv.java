@@ -0,0 +1,55 @@
+package test.fluidapi.csv.reader;
+
+import static com.fluidapi.csv.reader.CsvReader.dequote;
+import static com.fluidapi.csv.reader.CsvReader.string;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.annotation.Testable;
+
+import com.fluidapi.csv.exception.CsvFormatException;
+
+@Testable
+public class TestQuotedCsv {
+
+	@Test
+	public void testBrackets() {
+		List<String> addresses = records()
+				.map( dequote('[', ']') )
+				.map( string(2) )
+				.toList();
+
+		assertThat(addresses)
+			.containsExactly("Mount Olympus", "Hague", "Tokyo \\[Edo\\]", "");
+	}
+
+	@Test
+	public void testEscapedEscape() {
+		assertThat(dequote('"').split("\"C:\\\\\" \"D:\\\"\\\\\""))
+			.containsExactly("C:\\\\", "D:\\\"\\\\");
+	}
+
+	@Test
+	public void testRestartedQuote() {
+		assertThatThrownBy(() -> dequote('[', ']').split("[Zeus [9012]"))
+			.isInstanceOf(CsvFormatException.class);
+
+		assertThatThrownBy(() -> dequote('[', ']').split("[Zeus] [9012"))
+			.isInstanceOf(CsvFormatException.class);
+	}
+
+	private Stream<String> records() {
+		return	"""
+				[Zeus] [9012] [Mount Olympus]
+				[Philips], [5120], [Hague]
+				\\[ignored] [Nishen] [712] [Tokyo \\[Edo\\]]
+				[Yamamoto] [1821] []
+				"""
+				.lines();
+	}
+
+}
@@ -0,0 +1,25 @@
+package test.fluidapi.csv.reader.closed;
+
+import com.fluidapi.csv.annotations.CsvColumn;
+
+/**
+ * a bean with public members only, loaded by {@code TestPrimitiveCsv} into a
+ * module that exports this package but doesn't open it
+ */
+public class Counter {
+
+	@CsvColumn(0)
+	public int count;
+
+	private long total;
+
+	public long getTotal() {
+		return total;
+	}
+
+	@CsvColumn(1)
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+}